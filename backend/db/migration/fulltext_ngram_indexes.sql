@@ -0,0 +1,32 @@
+-- ngram FULLTEXT 인덱스 (MySQL 8, 키워드 검색용)
+-- 테이블이 만들어진 뒤 한 번 실행한다. 이미 있는 인덱스는 건너뛰므로 다시 실행해도 된다.
+--   mysql -h <host> -u <user> -p <database> < db/migration/fulltext_ngram_indexes.sql
+-- 인덱스를 만드는 동안 테이블 쓰기가 막힐 수 있으므로 트래픽이 적은 시간에 실행한다.
+-- 애플리케이션은 기동 시 세 인덱스가 모두 있을 때만 FULLTEXT 검색을 쓰고, 아니면 LIKE 검색으로 동작한다.
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'events'
+                 AND index_name = 'ft_events_title_description') = 0,
+              'ALTER TABLE events ADD FULLTEXT INDEX ft_events_title_description (title, description) WITH PARSER ngram',
+              'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'meetings'
+                 AND index_name = 'ft_meetings_title_description') = 0,
+              'ALTER TABLE meetings ADD FULLTEXT INDEX ft_meetings_title_description (title, description) WITH PARSER ngram',
+              'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'questions'
+                 AND index_name = 'ft_questions_title') = 0,
+              'ALTER TABLE questions ADD FULLTEXT INDEX ft_questions_title (title) WITH PARSER ngram',
+              'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,48 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.dto.CursorPageResponse;
+import com.example.backend.dto.MyMeetingItemDto;
+import com.example.backend.enums.MeetingStatus;
+import com.example.backend.global.response.ApiResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * ApiResponse JSON 직렬화 비용 (마이페이지 목록 응답 형태)
+ * ObjectMapper 는 Spring MVC 와 같은 기본 설정(Jackson2ObjectMapperBuilder) 으로 만든다
+ */
+@State(Scope.Benchmark)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"5", "50"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<CursorPageResponse<MyMeetingItemDto>> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<MyMeetingItemDto> items = new ArrayList<>();
+        for (int i = 0; i <= size; i++) {
+            items.add(new MyMeetingItemDto((long) (size - i), "모임" + i, MeetingStatus.RECRUITING, 5L, 10, now.minusMinutes(i)));
+        }
+        response = ApiResponse.success(CursorPageResponse.of(items, size));
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.dto.CursorPageResponse;
+import com.example.backend.dto.MyMeetingItemDto;
+import com.example.backend.enums.MeetingStatus;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * CursorPageResponse.of: size + 1 건 조회 결과에서 마지막 한 건 제거 + 커서 추출
+ * of 가 목록을 직접 수정하므로 매번 복사본을 넘긴다 (복사 비용 포함)
+ */
+@State(Scope.Benchmark)
+public class CursorPageResponseBenchmark {
+
+    @Param({"5", "20", "100"})
+    private int size;
+
+    private List<MyMeetingItemDto> rows;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        rows = new ArrayList<>();
+        for (int i = 0; i <= size; i++) {
+            rows.add(new MyMeetingItemDto((long) (size - i), "모임" + i, MeetingStatus.RECRUITING, 5L, 10, now.minusMinutes(i)));
+        }
+    }
+
+    @Benchmark
+    public CursorPageResponse<MyMeetingItemDto> of() {
+        return CursorPageResponse.of(new ArrayList<>(rows), size);
+    }
+}
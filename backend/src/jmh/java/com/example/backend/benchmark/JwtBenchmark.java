@@ -0,0 +1,74 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.security.jwt.AuthUserCache;
+import com.example.backend.security.jwt.JwtAuthenticationFilter;
+import com.example.backend.security.jwt.JwtProvider;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * JWT 발급/검증 비용
+ * - createAccessToken / parseClaims: HMAC 서명 + Base64 + JSON
+ * - filter: Authorization 헤더 -> 검증 -> principal 캐시 -> SecurityContext 설정까지 (요청 1건 인증 비용)
+ */
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private JwtProvider jwtProvider;
+    private JwtAuthenticationFilter filter;
+    private String accessToken;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = new JwtProvider();
+        ReflectionTestUtils.setField(jwtProvider, "secretKey", "benchmark-secret-key-benchmark-secret-key-benchmark");
+        ReflectionTestUtils.setField(jwtProvider, "accessExpire", 1_800_000L);
+        ReflectionTestUtils.setField(jwtProvider, "refreshExpire", 1_209_600_000L);
+        ReflectionTestUtils.setField(jwtProvider, "masterToken", "");
+        ReflectionTestUtils.setField(jwtProvider, "masterUserId", "");
+        jwtProvider.init();
+
+        // 일반 토큰은 claims 만으로 principal 을 만들어서 UserRepository 를 쓰지 않는다
+        AuthUserCache authUserCache = new AuthUserCache(null, jwtProvider, 10_000, 600);
+        filter = new JwtAuthenticationFilter(jwtProvider, authUserCache);
+
+        accessToken = jwtProvider.createAccessToken(1L, "bench@test.com");
+        request = new MockHttpServletRequest("GET", "/api/users/me");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtProvider.createAccessToken(1L, "bench@test.com");
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtProvider.parseClaims(accessToken);
+    }
+
+    @Benchmark
+    public Object filter() throws ServletException, IOException {
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+}
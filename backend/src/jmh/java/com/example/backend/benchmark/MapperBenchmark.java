@@ -0,0 +1,98 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.domain.Event;
+import com.example.backend.domain.EventMember;
+import com.example.backend.domain.Location;
+import com.example.backend.domain.Meeting;
+import com.example.backend.domain.MeetingMember;
+import com.example.backend.domain.User;
+import com.example.backend.dto.EventDetailResponse;
+import com.example.backend.dto.EventMemberResponse;
+import com.example.backend.dto.MeetingDetailResponse;
+import com.example.backend.dto.MeetingMemberResponse;
+import com.example.backend.enums.EventCategory;
+import com.example.backend.enums.EventStatus;
+import com.example.backend.enums.MeetingCategory;
+import com.example.backend.enums.MeetingStatus;
+import com.example.backend.mapper.EventMapper;
+import com.example.backend.mapper.MeetingMapper;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 상세 응답 매핑 비용 (멤버 수별)
+ * 엔티티 -> 멤버 응답 목록 -> 상세 응답 (서비스의 상세 조회와 같은 순서)
+ */
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"10", "100"})
+    private int members;
+
+    private Meeting meeting;
+    private List<MeetingMember> meetingMembers;
+    private Event event;
+    private List<EventMember> eventMembers;
+
+    @Setup
+    public void setUp() {
+        Location location = Location.builder().province("서울").city("강남구").build();
+        User host = new User("host@test.com", "pw", "host", location);
+
+        meeting = Meeting.builder()
+                .title("벤치마크 모임")
+                .description("매핑 비용 측정")
+                .category(MeetingCategory.STUDY)
+                .location(location)
+                .meetingPlace("강남역")
+                .schedule("매주 토요일")
+                .capacity(members * 2)
+                .memberCount(members)
+                .status(MeetingStatus.RECRUITING)
+                .host(host)
+                .build();
+        event = Event.builder()
+                .title("벤치마크 이벤트")
+                .description("매핑 비용 측정")
+                .category(EventCategory.CULTURE)
+                .location(location)
+                .eventPlace("강남역")
+                .startAt(LocalDateTime.now().plusDays(1))
+                .capacity(members * 2)
+                .memberCount(members)
+                .status(EventStatus.RECRUITING)
+                .host(host)
+                .build();
+
+        meetingMembers = new ArrayList<>();
+        eventMembers = new ArrayList<>();
+        for (int i = 0; i < members; i++) {
+            User user = new User("member" + i + "@test.com", "pw", "member" + i, location);
+            meetingMembers.add(MeetingMember.createMember(meeting, user));
+            eventMembers.add(EventMember.createMember(event, user));
+        }
+    }
+
+    @Benchmark
+    public MeetingDetailResponse meetingDetail() {
+        List<MeetingMemberResponse> responses = meetingMembers.stream()
+                .map(MeetingMapper::toMeetingMemberResponse)
+                .toList();
+        return MeetingMapper.toMeetingDetailResponse(meeting, responses);
+    }
+
+    @Benchmark
+    public EventDetailResponse eventDetail() {
+        List<EventMemberResponse> responses = eventMembers.stream()
+                .map(EventMapper::toEventMemberResponse)
+                .toList();
+        return EventMapper.toEventDetailResponse(
+                event, responses, responses.size(), EventMapper.calculateIsEnded(event.getStartAt()), null);
+    }
+}
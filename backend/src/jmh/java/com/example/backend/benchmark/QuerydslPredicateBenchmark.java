@@ -0,0 +1,55 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.domain.QMeeting;
+import com.example.backend.enums.ActivityType;
+import com.example.backend.enums.MeetingCategory;
+import com.example.backend.enums.MeetingStatus;
+import com.example.backend.repository.support.ActivityCursor;
+import com.example.backend.repository.support.KeysetCursor;
+import com.example.backend.repository.support.KeysetSort;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import java.time.LocalDateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 목록 조회 where 절 구성 비용 (SQL 실행 제외)
+ * - MeetingQueryRepositoryImpl 의 조건(categoryEq, statusEq, provinceEq, cityEq) + keyset 커서 디코드/조건
+ * - 마이페이지 활동 타임라인 커서 조건
+ */
+@State(Scope.Benchmark)
+public class QuerydslPredicateBenchmark {
+
+    private static final QMeeting meeting = QMeeting.meeting;
+    private static final KeysetSort<LocalDateTime> LATEST = KeysetSort.byDateTime(meeting.createdAt, meeting.id);
+
+    private String keysetCursor;
+    private String activityCursor;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+        keysetCursor = KeysetCursor.of(now, 12_345L).encode();
+        activityCursor = ActivityCursor.of(now, ActivityType.EVENT, 12_345L).encode();
+    }
+
+    @Benchmark
+    public Predicate meetingListWhere() {
+        return ExpressionUtils.allOf(
+                meeting.category.eq(MeetingCategory.STUDY),
+                meeting.status.eq(MeetingStatus.RECRUITING),
+                meeting.location.province.eq("서울"),
+                meeting.location.city.eq("강남구"),
+                LATEST.after(KeysetCursor.decode(keysetCursor)));
+    }
+
+    @Benchmark
+    public BooleanExpression activityTimelineWhere() {
+        return ActivityCursor.after(
+                ActivityCursor.decode(activityCursor), ActivityType.MEETING, meeting.createdAt, meeting.id);
+    }
+}
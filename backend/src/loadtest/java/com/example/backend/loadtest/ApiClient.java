@@ -0,0 +1,184 @@
+package com.example.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 부하 테스트 HTTP 클라이언트
+ * - 요청마다 (엔드포인트 이름, 응답 시간, 2xx 여부) 를 EndpointStats 에 기록 (recording 이 켜진 뒤부터)
+ * - 응답 본문은 ApiResponse.data 만 돌려준다, 실패 응답/연결 오류는 null
+ * - refreshToken 쿠키는 Session 에 담아 reissue 에 다시 보낸다
+ */
+final class ApiClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final String baseUrl;
+    private final Map<String, EndpointStats> stats = new ConcurrentSkipListMap<>();
+
+    private volatile boolean recording = false;
+
+    ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    void startRecording() {
+        recording = true;
+    }
+
+    void stopRecording() {
+        recording = false;
+    }
+
+    Collection<EndpointStats> stats() {
+        return stats.values();
+    }
+
+    JsonNode get(String endpoint, String path, Session session) {
+        return send(endpoint, builder(path, session).GET(), session);
+    }
+
+    JsonNode post(String endpoint, String path, Object body, Session session) {
+        return send(endpoint, builder(path, session).POST(json(body)), session);
+    }
+
+    JsonNode patch(String endpoint, String path, Session session) {
+        return send(endpoint, builder(path, session).method("PATCH", HttpRequest.BodyPublishers.noBody()), session);
+    }
+
+    boolean login(Session session, String email, String password) {
+        JsonNode data = post("login", "/api/users/login",
+                Map.of("email", email, "password", password), session);
+        if (data == null) {
+            return false;
+        }
+        session.signedIn(data.path("userId").asLong(), data.path("accessToken").asText());
+        return true;
+    }
+
+    boolean reissue(Session session) {
+        JsonNode data = post("reissue", "/api/users/token/reissue", Map.of(), session);
+        if (data == null) {
+            return false;
+        }
+        session.reissued(data.path("accessToken").asText());
+        return true;
+    }
+
+    static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private HttpRequest.Builder builder(String path, Session session) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+        if (session != null && session.accessToken() != null) {
+            builder.header("Authorization", "Bearer " + session.accessToken());
+        }
+        if (session != null && session.refreshToken() != null) {
+            builder.header("Cookie", "refreshToken=" + session.refreshToken());
+        }
+        return builder;
+    }
+
+    private JsonNode send(String endpoint, HttpRequest.Builder builder, Session session) {
+        long started = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = http.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            record(endpoint, started, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+
+        boolean success = response.statusCode() / 100 == 2;
+        record(endpoint, started, success);
+        if (!success) {
+            return null;
+        }
+
+        if (session != null) {
+            response.headers().allValues("Set-Cookie").forEach(session::captureCookie);
+        }
+        try {
+            return mapper.readTree(response.body()).path("data");
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void record(String endpoint, long started, boolean success) {
+        if (recording) {
+            stats.computeIfAbsent(endpoint, EndpointStats::new).record(System.nanoTime() - started, success);
+        }
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body));
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * 가상 사용자 한 명의 로그인 상태 (워커 스레드 하나에서만 사용)
+     */
+    static final class Session {
+
+        private long userId;
+        private String accessToken;
+        private String refreshToken;
+
+        long userId() {
+            return userId;
+        }
+
+        String accessToken() {
+            return accessToken;
+        }
+
+        String refreshToken() {
+            return refreshToken;
+        }
+
+        void signedIn(long userId, String accessToken) {
+            this.userId = userId;
+            this.accessToken = accessToken;
+        }
+
+        void reissued(String accessToken) {
+            this.accessToken = accessToken;
+        }
+
+        void captureCookie(String setCookie) {
+            if (setCookie.startsWith("refreshToken=")) {
+                int end = setCookie.indexOf(';');
+                String value = setCookie.substring("refreshToken=".length(), end < 0 ? setCookie.length() : end);
+                refreshToken = value.isEmpty() ? null : value;
+            }
+        }
+    }
+}
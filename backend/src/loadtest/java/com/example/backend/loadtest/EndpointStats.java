@@ -0,0 +1,55 @@
+package com.example.backend.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 엔드포인트별 응답 시간(µs, 1µs ~ 60s, 유효숫자 3자리) 과 오류 수
+ * 워밍업 구간은 recording 을 켜기 전이라 기록하지 않는다
+ */
+final class EndpointStats {
+
+    private static final long MAX_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final String name;
+    private final Histogram histogram = new ConcurrentHistogram(1, MAX_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    void record(long elapsedNanos, boolean success) {
+        histogram.recordValue(Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), 1), MAX_MICROS));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    String name() {
+        return name;
+    }
+
+    Histogram histogram() {
+        return histogram;
+    }
+
+    long count() {
+        return histogram.getTotalCount();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    double errorRate() {
+        long count = count();
+        return count == 0 ? 0 : (double) errors() / count;
+    }
+
+    double percentileMillis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 부하 테스트 (./gradlew loadtest, 서버는 미리 loadtest 프로필 등으로 띄워 둔다)
+ * - concurrency 개의 가상 스레드가 mix 가중치대로 시나리오를 쉬지 않고 반복 (closed model)
+ * - warmup 이후 duration 동안만 기록, 엔드포인트별 처리량과 p50/p95/p99 출력
+ * - 엔드포인트별 HdrHistogram 분포를 <out>/<엔드포인트>.hgrm 으로 남긴다 (HistogramLogAnalyzer 등으로 비교)
+ * - SLO 를 넘거나 기록이 하나도 없으면 종료 코드 1
+ */
+public final class LoadTest {
+
+    private static final DateTimeFormatter START_AT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    // 동네 조건 목록 조회에 쓸 동네 수 (/api/locations 는 keyword 가 비면 앞에서부터 돌려준다)
+    private static final int TOWN_POOL = 50;
+
+    private final LoadTestConfig config;
+    private final ApiClient client;
+    private final List<Town> towns = new ArrayList<>();
+    private final Scenario[] weighted;
+
+    private volatile boolean running = true;
+
+    private LoadTest(LoadTestConfig config) {
+        this.config = config;
+        this.client = new ApiClient(config.baseUrl());
+
+        List<Scenario> slots = new ArrayList<>();
+        for (Map.Entry<Scenario, Integer> entry : config.mix().entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                slots.add(entry.getKey());
+            }
+        }
+        this.weighted = slots.toArray(Scenario[]::new);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        boolean passed = new LoadTest(config).run();
+        System.exit(passed ? 0 : 1);
+    }
+
+    private boolean run() throws InterruptedException, IOException {
+        loadTowns();
+        System.out.printf("[loadtest] %s concurrency=%d warmup=%ds duration=%ds mix=%s towns=%d%n",
+                config.baseUrl(), config.concurrency(), config.warmup().toSeconds(), config.duration().toSeconds(),
+                config.mix(), towns.size());
+
+        long measuredNanos;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < config.concurrency(); worker++) {
+                int index = worker;
+                executor.submit(() -> work(index));
+            }
+
+            Thread.sleep(config.warmup().toMillis());
+            client.startRecording();
+            long started = System.nanoTime();
+            Thread.sleep(config.duration().toMillis());
+            client.stopRecording();
+            measuredNanos = System.nanoTime() - started;
+
+            running = false;
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+
+        return report(measuredNanos / 1e9);
+    }
+
+    private void loadTowns() {
+        JsonNode data = client.get("locations", "/api/locations?keyword=&limit=" + TOWN_POOL, null);
+        if (data != null) {
+            data.forEach(node -> towns.add(new Town(
+                    node.path("id").asLong(), node.path("province").asText(), node.path("city").asText())));
+        }
+        if (towns.isEmpty()) {
+            throw new IllegalStateException("동네 목록을 가져오지 못함 (서버 기동 / datagen 적재 확인): " + config.baseUrl());
+        }
+    }
+
+    // 워커마다 주최자/참여자 계정 두 개를 쓴다 (join 시나리오)
+    private void work(int worker) {
+        SplittableRandom random = new SplittableRandom(config.seed() + worker);
+        ApiClient.Session host = new ApiClient.Session();
+        ApiClient.Session guest = new ApiClient.Session();
+        signIn(host, (2L * worker) % config.users() + 1);
+        signIn(guest, (2L * worker + 1) % config.users() + 1);
+
+        while (running) {
+            Town town = towns.get(random.nextInt(towns.size()));
+            switch (weighted[random.nextInt(weighted.length)]) {
+                case EVENTS -> client.get("events", "/api/events?" + town.query() + "&page=" + random.nextInt(3), null);
+                case FLASH -> client.get("events.flash", "/api/events/flash?" + town.query(), null);
+                case QUESTIONS -> client.get("questions", "/api/questions?" + town.query() + "&page=" + random.nextInt(3), null);
+                case DASHBOARD -> client.get("dashboard", "/api/towns/" + town.id() + "/dashboard", null);
+                case LOGIN -> client.login(new ApiClient.Session(), email(random.nextInt(config.users()) + 1), config.password());
+                case REISSUE -> {
+                    if (!client.reissue(host)) {
+                        signIn(host, host.userId());
+                    }
+                }
+                case JOIN -> joinAndApprove(host, guest, town);
+            }
+        }
+    }
+
+    // 이벤트 생성 -> 참여 신청 -> 신청 목록 -> 승인 (매번 새 이벤트라 중복 신청이 없다)
+    private void joinAndApprove(ApiClient.Session host, ApiClient.Session guest, Town town) {
+        JsonNode created = client.post("event.create", "/api/events", Map.of(
+                "title", "부하 테스트 이벤트",
+                "description", "loadtest",
+                "category", "ETC",
+                "locationId", town.id(),
+                "eventPlace", "부하 테스트 장소",
+                "startAt", LocalDateTime.now().plusDays(7).format(START_AT),
+                "capacity", 100), host);
+        if (created == null) {
+            return;
+        }
+
+        long eventId = created.path("eventId").asLong();
+        if (client.post("event.join", "/api/events/" + eventId + "/join-requests",
+                Map.of("message", "참여 신청"), guest) == null) {
+            return;
+        }
+
+        JsonNode requests = client.get("event.join-requests", "/api/events/" + eventId + "/manage/join-requests", host);
+        if (requests == null) {
+            return;
+        }
+        for (JsonNode request : requests) {
+            if (request.path("userId").asLong() == guest.userId()) {
+                client.patch("event.approve",
+                        "/api/events/" + eventId + "/manage/join-requests/" + request.path("requestId").asLong() + "/approve",
+                        host);
+                return;
+            }
+        }
+    }
+
+    private void signIn(ApiClient.Session session, long userId) {
+        client.login(session, email(userId), config.password());
+    }
+
+    private boolean report(double seconds) throws IOException {
+        SloPolicy slo = SloPolicy.load(config.sloFile());
+        Files.createDirectories(config.outputDir());
+
+        List<String> violations = new ArrayList<>();
+        long total = 0;
+
+        System.out.printf("%n%-22s %9s %9s %8s %9s %9s %9s %9s%n",
+                "endpoint", "count", "req/s", "errors", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        for (EndpointStats stats : client.stats()) {
+            total += stats.count();
+            System.out.printf("%-22s %9d %9.1f %8d %9.1f %9.1f %9.1f %9.1f%n",
+                    stats.name(), stats.count(), stats.count() / seconds, stats.errors(),
+                    stats.percentileMillis(50), stats.percentileMillis(95), stats.percentileMillis(99),
+                    stats.histogram().getMaxValue() / 1000.0);
+
+            try (PrintStream out = new PrintStream(
+                    Files.newOutputStream(config.outputDir().resolve(stats.name() + ".hgrm")))) {
+                // µs 로 기록했으므로 1000 으로 나눠 ms 단위 분포로 남긴다
+                stats.histogram().outputPercentileDistribution(out, 1000.0);
+            }
+            violations.addAll(slo.violations(stats));
+        }
+        System.out.printf("%-22s %9d %9.1f%n", "total", total, total / seconds);
+
+        if (total == 0) {
+            violations.add("기록된 요청 없음");
+        }
+        if (!violations.isEmpty()) {
+            System.out.println("\n[loadtest] SLO 위반");
+            violations.forEach(violation -> System.out.println("  - " + violation));
+            return false;
+        }
+        System.out.println("\n[loadtest] SLO 통과, 분포: " + config.outputDir().toAbsolutePath());
+        return true;
+    }
+
+    private static String email(long userId) {
+        return "user" + userId + "@datagen.local";
+    }
+
+    private record Town(long id, String province, String city) {
+
+        String query() {
+            return "province=" + ApiClient.encode(province) + "&city=" + ApiClient.encode(city);
+        }
+    }
+}
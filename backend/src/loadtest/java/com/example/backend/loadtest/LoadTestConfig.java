@@ -0,0 +1,71 @@
+package com.example.backend.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (--key=value 인자)
+ * - mix 는 시나리오별 가중치 (events=30,flash=15,...), 빠진 시나리오는 실행하지 않는다
+ * - 로그인 계정은 datagen 이 만든 user{n}@datagen.local 을 쓴다
+ */
+record LoadTestConfig(
+        String baseUrl,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        int users,
+        String password,
+        Map<Scenario, Integer> mix,
+        Path sloFile,
+        Path outputDir,
+        long seed
+) {
+
+    private static final String DEFAULT_MIX = "events=30,flash=15,questions=25,dashboard=20,login=4,reissue=4,join=2";
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("--key=value 형식이 아님: " + arg);
+            }
+            int index = arg.indexOf('=');
+            values.put(arg.substring(2, index), arg.substring(index + 1));
+        }
+
+        String slo = values.get("slo");
+        return new LoadTestConfig(
+                trimSlash(values.getOrDefault("base-url", "http://localhost:8080")),
+                Integer.parseInt(values.getOrDefault("concurrency", "64")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup-seconds", "10"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration-seconds", "60"))),
+                Integer.parseInt(values.getOrDefault("users", "100000")),
+                values.getOrDefault("password", "password1234"),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                slo == null ? null : Path.of(slo),
+                Path.of(values.getOrDefault("out", "build/loadtest")),
+                Long.parseLong(values.getOrDefault("seed", "42"))
+        );
+    }
+
+    private static Map<Scenario, Integer> parseMix(String mix) {
+        Map<Scenario, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split("=");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                weights.put(Scenario.of(pair[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("mix 가 비어 있음: " + mix);
+        }
+        return weights;
+    }
+
+    private static String trimSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
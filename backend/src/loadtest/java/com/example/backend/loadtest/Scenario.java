@@ -0,0 +1,31 @@
+package com.example.backend.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 부하 시나리오 (mix 인자 이름)
+ * join 은 이벤트 생성 -> 참여 신청 -> 신청 목록 -> 승인 네 요청을 한 번에 수행
+ */
+enum Scenario {
+
+    EVENTS("events"),
+    FLASH("flash"),
+    QUESTIONS("questions"),
+    DASHBOARD("dashboard"),
+    LOGIN("login"),
+    REISSUE("reissue"),
+    JOIN("join");
+
+    private final String key;
+
+    Scenario(String key) {
+        this.key = key;
+    }
+
+    static Scenario of(String key) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 시나리오: " + key));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.backend.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * 엔드포인트별 SLO (properties, 기본은 classpath 의 loadtest-slo.properties)
+ * - <엔드포인트>.p50 / .p95 / .p99 : ms 상한, <엔드포인트>.error-rate : 오류 비율 상한
+ * - 엔드포인트에 값이 없으면 default.* 를 쓴다
+ */
+final class SloPolicy {
+
+    private static final String DEFAULT_RESOURCE = "loadtest-slo.properties";
+    private static final String[] PERCENTILES = {"p50", "p95", "p99"};
+
+    private final Properties properties;
+
+    private SloPolicy(Properties properties) {
+        this.properties = properties;
+    }
+
+    static SloPolicy load(Path file) {
+        Properties properties = new Properties();
+        try (InputStream in = file != null
+                ? Files.newInputStream(file)
+                : SloPolicy.class.getClassLoader().getResourceAsStream(DEFAULT_RESOURCE)) {
+            if (in != null) {
+                properties.load(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new SloPolicy(properties);
+    }
+
+    List<String> violations(EndpointStats stats) {
+        List<String> violations = new ArrayList<>();
+
+        for (String percentile : PERCENTILES) {
+            Double limit = limit(stats.name(), percentile);
+            double actual = stats.percentileMillis(Double.parseDouble(percentile.substring(1)));
+            if (limit != null && actual > limit) {
+                violations.add(String.format("%s %s %.1fms > %.1fms", stats.name(), percentile, actual, limit));
+            }
+        }
+
+        Double errorLimit = limit(stats.name(), "error-rate");
+        if (errorLimit != null && stats.errorRate() > errorLimit) {
+            violations.add(String.format("%s error-rate %.4f > %.4f", stats.name(), stats.errorRate(), errorLimit));
+        }
+        return violations;
+    }
+
+    private Double limit(String endpoint, String metric) {
+        String value = properties.getProperty(endpoint + "." + metric, properties.getProperty("default." + metric));
+        return value == null || value.isBlank() ? null : Double.valueOf(value.trim());
+    }
+}
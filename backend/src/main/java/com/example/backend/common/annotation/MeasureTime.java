@@ -5,7 +5,11 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
-@Target(ElementType.METHOD)
+/**
+ * 실행 시간을 Micrometer timer(app.method) 로 기록 (ExecutionTimeAspect)
+ * - @Service 클래스는 붙이지 않아도 기본으로 측정, 그 밖의 빈은 클래스나 메서드에 붙인다
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface MeasureTime {
-}
\ No newline at end of file
+}
@@ -1,27 +1,128 @@
 package com.example.backend.common.aspect;
 
+import com.example.backend.global.exception.custom.CustomException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+/**
+ * 메서드 실행 시간 측정 -> Micrometer timer "app.method" (class, method, outcome 태그)
+ * - 대상: @MeasureTime 이 붙은 클래스/메서드 + 이 프로젝트의 모든 @Service
+ * - outcome: SUCCESS / CLIENT_ERROR(CustomException) / ERROR
+ * - outcome 별 Timer 는 처음 그 결과가 나올 때 만들어 캐시 (한 번도 실패하지 않은 메서드는 오류 시계열이 없음)
+ * - percentile histogram 은 SUCCESS 에만 둔다 (오류 쪽은 건수/합계/최대만, 버킷 시계열 수를 줄임)
+ * - 트랜잭션 커밋 시간까지 포함되도록 @Transactional 보다 바깥에서 실행
+ * - slow-threshold-ms 를 넘은 호출은 slow-log-sample-rate 비율만 WARN 로그 (0 이면 로그 끔)
+ */
+@Slf4j
 @Aspect
 @Component
-@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class ExecutionTimeAspect {
 
-    @Around("@annotation(com.example.backend.common.annotation.MeasureTime)")
+    private static final String METRIC_NAME = "app.method";
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final double slowLogSampleRate;
+    private final Map<Method, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    public ExecutionTimeAspect(
+            MeterRegistry meterRegistry,
+            @Value("${measure-time.slow-threshold-ms:500}") long slowThresholdMs,
+            @Value("${measure-time.slow-log-sample-rate:0.1}") double slowLogSampleRate
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.slowLogSampleRate = slowLogSampleRate;
+    }
+
+    @Around("@annotation(com.example.backend.common.annotation.MeasureTime) "
+            + "|| @within(com.example.backend.common.annotation.MeasureTime) "
+            + "|| (within(com.example.backend..*) && @within(org.springframework.stereotype.Service))")
     public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodTimers methodTimers = timers.computeIfAbsent(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), this::register);
+
+        long start = System.nanoTime();
+        Outcome outcome = Outcome.ERROR;
+        try {
+            Object result = joinPoint.proceed();
+            outcome = Outcome.SUCCESS;
+            return result;
+        } catch (CustomException e) {
+            outcome = Outcome.CLIENT_ERROR;
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            methodTimers.get(outcome).record(elapsed, TimeUnit.NANOSECONDS);
+            if (elapsed >= slowThresholdNanos && sampled()) {
+                log.warn("[SlowCall] {}.{} {}ms",
+                        methodTimers.className, methodTimers.methodName, TimeUnit.NANOSECONDS.toMillis(elapsed));
+            }
+        }
+    }
+
+    private boolean sampled() {
+        return slowLogSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < slowLogSampleRate;
+    }
+
+    private MethodTimers register(Method method) {
+        return new MethodTimers(method.getDeclaringClass().getSimpleName(), method.getName());
+    }
+
+    private Timer timer(String className, String methodName, Outcome outcome) {
+        Timer.Builder builder = Timer.builder(METRIC_NAME)
+                .description("서비스 메서드 실행 시간")
+                .tag("class", className)
+                .tag("method", methodName)
+                .tag("outcome", outcome.name());
+        if (outcome == Outcome.SUCCESS) {
+            builder.publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(10));
+        }
+        return builder.register(meterRegistry);
+    }
+
+    private enum Outcome {
+        SUCCESS, CLIENT_ERROR, ERROR
+    }
+
+    private final class MethodTimers {
 
-        long start = System.currentTimeMillis();
-        Object result = joinPoint.proceed();
-        long end = System.currentTimeMillis();
+        private final String className;
+        private final String methodName;
+        private final AtomicReferenceArray<Timer> byOutcome = new AtomicReferenceArray<>(Outcome.values().length);
 
-        log.info("[ExecutionTime] {} 실행 시간={}ms",
-                joinPoint.getSignature().toShortString(),
-                end - start);
+        private MethodTimers(String className, String methodName) {
+            this.className = className;
+            this.methodName = methodName;
+        }
 
-        return result;
+        // 동시에 처음 만들어도 registry 가 같은 id 의 Timer 를 돌려주므로 어느 쪽이 저장돼도 같다
+        Timer get(Outcome outcome) {
+            Timer timer = byOutcome.get(outcome.ordinal());
+            if (timer == null) {
+                timer = timer(className, methodName, outcome);
+                byOutcome.set(outcome.ordinal(), timer);
+            }
+            return timer;
+        }
     }
 }
@@ -0,0 +1,33 @@
+package com.example.backend.common.event;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+/**
+ * 캘린더에 보이는 값(일정, 상태, 동네, 제목, 카테고리)이 바뀐 이벤트
+ * 변경 전/후 위치(동네 + 시작 시각)의 월 버킷만 무효화하는 데 사용한다.
+ * 새로 생성된 이벤트는 previous 가, 삭제된 이벤트는 current 가 null
+ */
+@Getter
+public class EventCalendarChangedEvent {
+
+    private final Long eventId;
+    private final Long previousLocationId;
+    private final LocalDateTime previousStartAt;
+    private final Long locationId;
+    private final LocalDateTime startAt;
+
+    public EventCalendarChangedEvent(
+            Long eventId,
+            Long previousLocationId,
+            LocalDateTime previousStartAt,
+            Long locationId,
+            LocalDateTime startAt
+    ) {
+        this.eventId = eventId;
+        this.previousLocationId = previousLocationId;
+        this.previousStartAt = previousStartAt;
+        this.locationId = locationId;
+        this.startAt = startAt;
+    }
+}
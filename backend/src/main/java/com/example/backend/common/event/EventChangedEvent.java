@@ -0,0 +1,14 @@
+package com.example.backend.common.event;
+
+import lombok.Getter;
+
+@Getter
+public class EventChangedEvent extends TownContentChangedEvent {
+
+    private final Long eventId;
+
+    public EventChangedEvent(Long eventId, Long locationId) {
+        super(locationId);
+        this.eventId = eventId;
+    }
+}
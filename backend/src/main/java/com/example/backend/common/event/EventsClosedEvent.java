@@ -0,0 +1,22 @@
+package com.example.backend.common.event;
+
+import java.util.List;
+import java.util.Set;
+import lombok.Getter;
+
+/**
+ * 모집 마감 배치(EventLifecycleScheduler) 가 한 chunk 에서 CLOSED 로 바꾼 이벤트 묶음
+ * 건별 EventChangedEvent 대신 한 번만 보내, 커밋 후 리스너가 행마다 DB 를 다시 읽지 않게 한다.
+ * - 번개 피드: 메모리에서만 제거, 대시보드: 동네별로 한 번씩 무효화
+ */
+@Getter
+public class EventsClosedEvent {
+
+    private final List<Long> eventIds;
+    private final Set<Long> locationIds;
+
+    public EventsClosedEvent(List<Long> eventIds, Set<Long> locationIds) {
+        this.eventIds = eventIds;
+        this.locationIds = locationIds;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.backend.common.event;
+
+import lombok.Getter;
+
+@Getter
+public class MeetingChangedEvent extends TownContentChangedEvent {
+
+    private final Long meetingId;
+
+    public MeetingChangedEvent(Long meetingId, Long locationId) {
+        super(locationId);
+        this.meetingId = meetingId;
+    }
+}
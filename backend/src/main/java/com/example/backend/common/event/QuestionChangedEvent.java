@@ -0,0 +1,14 @@
+package com.example.backend.common.event;
+
+import lombok.Getter;
+
+@Getter
+public class QuestionChangedEvent extends TownContentChangedEvent {
+
+    private final Long questionId;
+
+    public QuestionChangedEvent(Long questionId, Long locationId) {
+        super(locationId);
+        this.questionId = questionId;
+    }
+}
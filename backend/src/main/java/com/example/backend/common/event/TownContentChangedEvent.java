@@ -0,0 +1,17 @@
+package com.example.backend.common.event;
+
+import lombok.Getter;
+
+/**
+ * 동네(Location) 단위 콘텐츠 변경 이벤트
+ * 커밋 이후 동네별 캐시(대시보드 등) 무효화에 사용한다.
+ */
+@Getter
+public abstract class TownContentChangedEvent {
+
+    private final Long locationId;
+
+    protected TownContentChangedEvent(Long locationId) {
+        this.locationId = locationId;
+    }
+}
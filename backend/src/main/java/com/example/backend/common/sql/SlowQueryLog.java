@@ -0,0 +1,68 @@
+package com.example.backend.common.sql;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 느린 SQL 링 버퍼 (capacity 개, 가득 차면 가장 오래된 항목부터 덮어쓴다)
+ * - 요청: 가장 느린 문장이 slow-query-ms 이상이면 요청 집계와 함께 한 건
+ * - 요청 밖: 느린 문장 한 건씩
+ * - actuator slowqueries 엔드포인트로 조회 (최신순)
+ */
+@Component
+public class SlowQueryLog {
+
+    private final long slowQueryMs;
+    private final Entry[] entries;
+    private int next = 0;
+    private int size = 0;
+
+    public SlowQueryLog(
+            @Value("${sql-telemetry.slow-query-ms:200}") long slowQueryMs,
+            @Value("${sql-telemetry.slow-log-capacity:100}") int capacity
+    ) {
+        this.slowQueryMs = slowQueryMs;
+        this.entries = new Entry[Math.max(capacity, 1)];
+    }
+
+    public boolean isSlow(long elapsedMs) {
+        return elapsedMs >= slowQueryMs;
+    }
+
+    public synchronized void add(String source, int statements, long dbMillis, long slowestMillis, String fingerprint) {
+        entries[next] = new Entry(LocalDateTime.now(), source, statements, dbMillis, slowestMillis, fingerprint);
+        next = (next + 1) % entries.length;
+        size = Math.min(size + 1, entries.length);
+    }
+
+    public synchronized List<Entry> recent() {
+        List<Entry> recent = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            recent.add(entries[(next - i + entries.length) % entries.length]);
+        }
+        return recent;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(entries, null);
+        next = 0;
+        size = 0;
+    }
+
+    /**
+     * source: 핸들러(Controller.method) 또는 background
+     */
+    public record Entry(
+            LocalDateTime at,
+            String source,
+            int statements,
+            long dbMillis,
+            long slowestMillis,
+            String fingerprint
+    ) {
+    }
+}
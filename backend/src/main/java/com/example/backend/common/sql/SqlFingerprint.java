@@ -0,0 +1,34 @@
+package com.example.backend.common.sql;
+
+import java.util.regex.Pattern;
+
+/**
+ * SQL 지문: 값만 다른 문장이 같은 문자열이 되도록 정규화
+ * - 문자열/숫자 리터럴 -> ?, IN (?, ?, ...) -> IN (?+), 공백 정리, 소문자
+ * - 길이는 MAX_LENGTH 로 자른다 (링 버퍼/헤더에 긴 SQL 이 그대로 쌓이지 않도록)
+ */
+public final class SqlFingerprint {
+
+    private static final int MAX_LENGTH = 300;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        if (sql == null) {
+            return "";
+        }
+
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("(?+)");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim().toLowerCase();
+
+        return normalized.length() > MAX_LENGTH ? normalized.substring(0, MAX_LENGTH) + "..." : normalized;
+    }
+}
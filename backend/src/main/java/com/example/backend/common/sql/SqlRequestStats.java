@@ -0,0 +1,62 @@
+package com.example.backend.common.sql;
+
+/**
+ * 요청 한 건의 SQL 집계 (문장 수, DB 시간 합, 가장 느린 문장)
+ * - SqlTelemetryFilter 가 요청 스레드에 열고 닫는다, 문장 기록은 SqlTelemetryListener
+ * - 요청 스레드에서만 접근하므로 동기화하지 않는다
+ */
+public final class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long dbNanos;
+    private long slowestNanos;
+    private String slowestSql;
+    private long statementStartedAt;
+
+    static SqlRequestStats begin() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    void statementStarted() {
+        statementStartedAt = System.nanoTime();
+    }
+
+    // 정규화는 요청이 끝날 때 가장 느린 문장 하나만
+    void statementFinished(String sql) {
+        long elapsed = System.nanoTime() - statementStartedAt;
+        statements++;
+        dbNanos += elapsed;
+        if (elapsed > slowestNanos) {
+            slowestNanos = elapsed;
+            slowestSql = sql;
+        }
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long dbNanos() {
+        return dbNanos;
+    }
+
+    public long slowestNanos() {
+        return slowestNanos;
+    }
+
+    public String slowestFingerprint() {
+        return SqlFingerprint.of(slowestSql);
+    }
+}
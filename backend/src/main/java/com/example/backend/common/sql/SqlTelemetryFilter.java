@@ -0,0 +1,96 @@
+package com.example.backend.common.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청 단위 SQL 집계 -> Micrometer (handler 태그 = Controller.method)
+ * - app.request.db.statements: 요청당 문장 수, app.request.db.time: 요청당 DB 시간 합
+ * - 가장 느린 문장이 slow-query-ms 이상이면 SlowQueryLog 에 남긴다
+ * - 인증 필터의 사용자 조회까지 잡히도록 보안 필터보다 먼저 실행 (인코딩 필터 바로 다음)
+ * - 핸들러가 정해지지 않은 요청(404, 인증 실패 등) 은 metric 없이 느린 문장만 남긴다
+ * - 다른 스레드에서 실행된 쿼리(대시보드 병렬 조회) 는 요청에 포함되지 않는다
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class SqlTelemetryFilter extends OncePerRequestFilter {
+
+    private static final String UNMATCHED = "unmatched";
+
+    private final MeterRegistry meterRegistry;
+    private final SlowQueryLog slowQueryLog;
+    private final Map<HandlerMethod, HandlerMeters> meters = new ConcurrentHashMap<>();
+
+    public SqlTelemetryFilter(MeterRegistry meterRegistry, SlowQueryLog slowQueryLog) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlRequestStats stats = SqlRequestStats.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlRequestStats.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlRequestStats stats) {
+        String source = UNMATCHED;
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            HandlerMeters handlerMeters = meters.computeIfAbsent(handler, this::register);
+            handlerMeters.statements.record(stats.statements());
+            handlerMeters.dbTime.record(stats.dbNanos(), TimeUnit.NANOSECONDS);
+            source = handlerMeters.name;
+        }
+
+        long slowestMs = TimeUnit.NANOSECONDS.toMillis(stats.slowestNanos());
+        if (stats.statements() > 0 && slowQueryLog.isSlow(slowestMs)) {
+            slowQueryLog.add(source, stats.statements(), TimeUnit.NANOSECONDS.toMillis(stats.dbNanos()),
+                    slowestMs, stats.slowestFingerprint());
+        }
+    }
+
+    // HandlerMethod 는 요청마다 새로 만들어질 수 있어 equals(빈 + 메서드) 기준으로 캐시된다
+    private HandlerMeters register(HandlerMethod handler) {
+        String name = handler.getBeanType().getSimpleName() + "." + handler.getMethod().getName();
+        return new HandlerMeters(
+                name,
+                DistributionSummary.builder("app.request.db.statements")
+                        .description("요청당 SQL 문장 수")
+                        .tag("handler", name)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(1.0)
+                        .maximumExpectedValue(1000.0)
+                        .register(meterRegistry),
+                Timer.builder("app.request.db.time")
+                        .description("요청당 SQL 실행 시간 합")
+                        .tag("handler", name)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(Duration.ofSeconds(10))
+                        .register(meterRegistry));
+    }
+
+    private record HandlerMeters(String name, DistributionSummary statements, Timer dbTime) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.backend.common.sql;
+
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 비운영 프로필에서 응답 헤더로 요청 SQL 집계 노출 (본문을 쓰기 직전까지의 값)
+ * X-Sql-Count: 문장 수, X-Sql-Time-Ms: DB 시간 합, X-Sql-Slowest-Ms: 가장 느린 문장
+ */
+@Profile("!prod")
+@ConditionalOnProperty(name = "sql-telemetry.response-header", havingValue = "true", matchIfMissing = true)
+@RestControllerAdvice
+public class SqlTelemetryHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            response.getHeaders().set("X-Sql-Count", String.valueOf(stats.statements()));
+            response.getHeaders().set("X-Sql-Time-Ms", String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.dbNanos())));
+            response.getHeaders().set("X-Sql-Slowest-Ms", String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.slowestNanos())));
+        }
+        return body;
+    }
+}
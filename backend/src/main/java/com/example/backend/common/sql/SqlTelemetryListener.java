@@ -0,0 +1,44 @@
+package com.example.backend.common.sql;
+
+import java.util.List;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * datasource-proxy 리스너 (config.SqlTelemetryConfig 가 DataSource 에 연결)
+ * - 요청 스레드: SqlRequestStats 에 문장 수/시간 누적 (요청 단위 판단은 SqlTelemetryFilter)
+ * - 요청 밖(스케줄러, 대시보드 병렬 조회 등): 느린 문장만 SlowQueryLog 에 바로 남긴다
+ */
+@Component
+public class SqlTelemetryListener implements QueryExecutionListener {
+
+    private static final String BACKGROUND = "background";
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SqlTelemetryListener(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.statementStarted();
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.isEmpty() ? null : queryInfoList.get(0).getQuery();
+
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.statementFinished(sql);
+        } else if (slowQueryLog.isSlow(execInfo.getElapsedTime())) {
+            slowQueryLog.add(BACKGROUND, 1, execInfo.getElapsedTime(), execInfo.getElapsedTime(), SqlFingerprint.of(sql));
+        }
+    }
+}
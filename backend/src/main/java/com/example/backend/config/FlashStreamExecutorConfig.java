@@ -0,0 +1,30 @@
+package com.example.backend.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 번개 이벤트 SSE 전송용 executor
+ * 스레드 1개로 snapshot / upsert / remove 순서를 유지하고, 느린 클라이언트가 커밋 스레드를 붙잡지 않게 한다.
+ * 큐가 가득 차면 거절(AbortPolicy) -> FlashEventStream 이 구독을 모두 끊어 재접속(새 snapshot) 을 유도한다.
+ */
+@Configuration
+public class FlashStreamExecutorConfig {
+
+    @Bean(name = "flashStreamExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor flashStreamExecutor(
+            @Value("${flash.feed.send-queue-capacity:10000}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("flash-sse-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
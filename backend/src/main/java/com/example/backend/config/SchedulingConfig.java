@@ -0,0 +1,16 @@
+package com.example.backend.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 데이터 적재(datagen) 중에는 정리/보정 작업을 돌리지 않는다
+// scheduling.enabled=false 면 @Scheduled 작업 전체를 끈다 (테스트는 필요한 작업을 직접 호출)
+@Configuration
+@Profile("!datagen")
+@ConditionalOnProperty(name = "scheduling.enabled", havingValue = "true", matchIfMissing = true)
+@EnableScheduling
+public class SchedulingConfig {
+
+}
@@ -4,11 +4,12 @@ import com.example.backend.global.exception.security.JwtAccessDeniedHandler;
 import com.example.backend.global.exception.security.JwtAuthenticationEntryPoint;
 import com.example.backend.global.exception.security.JwtExceptionFilter;
 import com.example.backend.global.exception.security.SecurityErrorResponseWriter;
-import com.example.backend.repository.UserRepository;
 import com.example.backend.security.cookie.RefreshTokenCookieManager;
+import com.example.backend.security.jwt.AuthUserCache;
 import com.example.backend.security.jwt.JwtAuthenticationFilter;
 import com.example.backend.security.jwt.JwtProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -36,6 +37,7 @@ public class SecurityConfig {
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll() // OPTIONS 요청은 인증 없이 허용
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).permitAll() // actuator 는 로컬 관리 포트에서만 열림
                         .requestMatchers(HttpMethod.GET,
                                 "/api/locations",
                                 "/api/meetings",
@@ -122,7 +124,7 @@ public class SecurityConfig {
     }
 
     @Bean
-    public JwtAuthenticationFilter jwtAuthenticationFilter(JwtProvider jwtProvider, UserRepository userRepository) {
-        return new JwtAuthenticationFilter(jwtProvider, userRepository);
+    public JwtAuthenticationFilter jwtAuthenticationFilter(JwtProvider jwtProvider, AuthUserCache authUserCache) {
+        return new JwtAuthenticationFilter(jwtProvider, authUserCache);
     }
 }
\ No newline at end of file
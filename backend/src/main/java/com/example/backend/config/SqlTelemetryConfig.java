@@ -0,0 +1,40 @@
+package com.example.backend.config;
+
+import com.example.backend.common.sql.SqlTelemetryListener;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * DataSource 를 datasource-proxy 로 감싸 SqlTelemetryListener 연결 (요청 단위 SQL 집계)
+ * 이미 감싸진 DataSource(테스트 QueryCountConfig 등) 면 리스너만 추가한다
+ */
+@Configuration
+@ConditionalOnProperty(name = "sql-telemetry.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlTelemetryConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlTelemetryDataSourcePostProcessor(ObjectProvider<SqlTelemetryListener> listener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof ProxyDataSource proxy) {
+                    proxy.getProxyConfig().getQueryListener().addListener(listener.getObject());
+                    return bean;
+                }
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("sql-telemetry")
+                            .listener(listener.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
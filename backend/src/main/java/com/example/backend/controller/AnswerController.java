@@ -13,11 +13,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.example.backend.domain.User;
 import com.example.backend.dto.AnswerCreateRequest;
 import com.example.backend.dto.AnswerResponse;
 import com.example.backend.dto.AnswerUpdateRequest;
 import com.example.backend.global.response.ApiResponse;
+import com.example.backend.security.jwt.AuthUser;
 import com.example.backend.service.AnswerService;
 
 import jakarta.validation.Valid;
@@ -32,7 +32,7 @@ public class AnswerController {
 	@PostMapping("/questions/{questionId}/answers")
 	public ResponseEntity<ApiResponse<Void>> createAnswer(
 		@PathVariable("questionId") Long questionId,
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthUser user,
 		@Valid @RequestBody AnswerCreateRequest request
 	) {
 		answerService.createAnswer(questionId, user.getId(), request);
@@ -50,7 +50,7 @@ public class AnswerController {
 	@PatchMapping("/answers/{answerId}")
 	public ResponseEntity<ApiResponse<Void>> updateAnswer(
 		@PathVariable("answerId") Long answerId,
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthUser user,
 		@Valid @RequestBody AnswerUpdateRequest request
 	) {
 		answerService.updateAnswer(answerId, user.getId(), request);
@@ -59,7 +59,7 @@ public class AnswerController {
 
 	@DeleteMapping("/answers/{answerId}")
 	public ResponseEntity<ApiResponse<Void>> deleteAnswer(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthUser user,
 		@PathVariable("answerId") Long answerId
 	) {
 		answerService.deleteAnswer(answerId, user.getId());
@@ -69,7 +69,7 @@ public class AnswerController {
 	// 답변 채택
 	@PatchMapping("/answers/{answerId}/accept")
 	public ResponseEntity<ApiResponse<Void>> acceptAnswer(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthUser user,
 		@PathVariable("answerId") Long answerId
 	) {
 		answerService.acceptAnswer(answerId, user.getId());
@@ -79,7 +79,7 @@ public class AnswerController {
 	// 답변 채택 취소
 	@PatchMapping("/answers/{answerId}/unaccept")
 	public ResponseEntity<ApiResponse<Void>> unacceptAnswer(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthUser user,
 		@PathVariable("answerId") Long answerId
 	) {
 		answerService.unacceptAnswer(answerId, user.getId());
@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,9 +15,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import com.example.backend.domain.User;
 import com.example.backend.dto.EventCalendarResponse;
 import com.example.backend.dto.EventCalendarSearchCondition;
 import com.example.backend.dto.EventCreateRequest;
@@ -29,10 +31,13 @@ import com.example.backend.dto.EventManageMemberResponse;
 import com.example.backend.dto.EventSearchCondition;
 import com.example.backend.dto.EventUpdateRequest;
 import com.example.backend.dto.FlashEventListResponse;
+import com.example.backend.dto.KeysetPageResponse;
 import com.example.backend.enums.EventStatus;
 import com.example.backend.global.response.ApiResponse;
+import com.example.backend.security.jwt.AuthUser;
 import com.example.backend.service.EventManageService;
 import com.example.backend.service.EventService;
+import com.example.backend.service.FlashEventFeed;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -44,6 +49,7 @@ public class EventController {
 
 	private final EventService eventService;
 	private final EventManageService eventManageService;
+	private final FlashEventFeed flashEventFeed;
 
 	@GetMapping
 	public ResponseEntity<ApiResponse<Page<EventListResponse>>> getEventList(
@@ -56,6 +62,19 @@ public class EventController {
 		return ResponseEntity.ok(ApiResponse.success(eventList));
 	}
 
+	// keyset 커서 기반 목록 (offset 목록과 같은 검색 조건)
+	@GetMapping("/cursor")
+	public ResponseEntity<ApiResponse<KeysetPageResponse<EventListResponse>>> getEventListByCursor(
+		EventSearchCondition condition,
+		@RequestParam(name = "cursor", required = false) String cursor,
+		@RequestParam(name = "size", defaultValue = "6") int size) {
+
+		KeysetPageResponse<EventListResponse> eventList
+			= eventService.getEventListByCursor(condition, cursor, size);
+
+		return ResponseEntity.ok(ApiResponse.success(eventList));
+	}
+
 	@GetMapping("/flash")
 	public ResponseEntity<ApiResponse<Page<FlashEventListResponse>>> getFlashEventList(
 		EventSearchCondition condition,
@@ -67,6 +86,15 @@ public class EventController {
 		return ResponseEntity.ok(ApiResponse.success(eventList));
 	}
 
+	// 번개 목록 실시간 구독 (snapshot 후 upsert / remove 이벤트), 로그인 사용자만 / 사용자별 구독 수 제한
+	@GetMapping(value = "/flash/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamFlashEvents(
+		@AuthenticationPrincipal AuthUser user,
+		EventSearchCondition condition
+	) {
+		return flashEventFeed.subscribe(condition, user.getId());
+	}
+
 	@GetMapping("/calendar")
 	public ResponseEntity<ApiResponse<List<EventCalendarResponse>>> getEventCalendar(
 		EventCalendarSearchCondition condition
@@ -77,16 +105,17 @@ public class EventController {
 
 	@GetMapping("/{eventId}")
 	public ResponseEntity<ApiResponse<EventDetailResponse>> getEventDetail(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthUser user,
 		@PathVariable Long eventId
 	) {
-		EventDetailResponse response = eventService.getEventDetail(user, eventId);
+		Long userId = user != null ? user.getId() : null;
+		EventDetailResponse response = eventService.getEventDetail(userId, eventId);
 		return ResponseEntity.ok(ApiResponse.success(response));
 	}
 
 	@PostMapping
 	public ResponseEntity<ApiResponse<EventCreateResponse>> createEvent(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthUser user,
 		@RequestBody @Valid EventCreateRequest request) {
 
 		Long eventId = eventService.createEvent(user.getId(), request);
@@ -100,7 +129,7 @@ public class EventController {
 	@PatchMapping("/{eventId}")
 	public ResponseEntity<ApiResponse<Void>> updateEvent(
 		@PathVariable Long eventId,
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthUser user,
 		@RequestBody EventUpdateRequest request) {
 
 		eventService.updateEvent(
@@ -113,7 +142,7 @@ public class EventController {
 
 	@DeleteMapping("/{eventId}")
 	public ResponseEntity<ApiResponse<Void>> cancelEvent(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthUser user,
 		@PathVariable("eventId") Long eventId
 	) {
 		eventService.cancelEvent(eventId, user.getId());
@@ -123,7 +152,7 @@ public class EventController {
 	// 참여 신청 (login)
 	@PostMapping("/{eventId}/join-requests")
 	public ResponseEntity<ApiResponse<Void>> requestJoin(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthUser user,
 		@PathVariable Long eventId,
 		@RequestBody @Valid EventJoinRequestDto request) {
 
@@ -135,7 +164,7 @@ public class EventController {
 	// 참여 신청 취소 (login)
 	@DeleteMapping("/{eventId}/join-requests")
 	public ResponseEntity<ApiResponse<Void>> cancelJoinRequest(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthUser user,
 		@PathVariable Long eventId
 	) {
 		eventService.cancelJoinRequest(user.getId(), eventId);
@@ -146,7 +175,7 @@ public class EventController {
 	@GetMapping("/{eventId}/manage/join-requests")
 	public ApiResponse<List<EventJoinRequestResponse>> getJoinRequests(
 		@PathVariable Long eventId,
-		@AuthenticationPrincipal User user) {
+		@AuthenticationPrincipal AuthUser user) {
 
 		List<EventJoinRequestResponse> joinRequests = eventManageService.getJoinRequests(eventId, user.getId());
 		return ApiResponse.success(joinRequests);
@@ -157,7 +186,7 @@ public class EventController {
 	public ApiResponse<Void> approve(
 		@PathVariable Long eventId,
 		@PathVariable Long requestId,
-		@AuthenticationPrincipal User user) {
+		@AuthenticationPrincipal AuthUser user) {
 		eventManageService.approveJoinRequest(eventId, requestId, user.getId());
 		return ApiResponse.success();
 	}
@@ -167,7 +196,7 @@ public class EventController {
 	public ApiResponse<Void> reject(
 		@PathVariable Long eventId,
 		@PathVariable Long requestId,
-		@AuthenticationPrincipal User user) {
+		@AuthenticationPrincipal AuthUser user) {
 		eventManageService.rejectJoinRequest(eventId, requestId, user.getId());
 		return ApiResponse.success();
 	}
@@ -175,7 +204,7 @@ public class EventController {
 	@GetMapping("{eventId}/manage/members")
 	public ApiResponse<List<EventManageMemberResponse>> getMembers(
 		@PathVariable Long eventId,
-		@AuthenticationPrincipal User user) {
+		@AuthenticationPrincipal AuthUser user) {
 
 		return ApiResponse.success(eventManageService.getMembers(eventId, user.getId()));
 	}
@@ -184,7 +213,7 @@ public class EventController {
 	public ApiResponse<Void> removeMember(
 		@PathVariable Long eventId,
 		@PathVariable Long memberId,
-		@AuthenticationPrincipal User user) {
+		@AuthenticationPrincipal AuthUser user) {
 
 		eventManageService.removeMember(eventId, memberId, user.getId());
 		return ApiResponse.success("멤버를 삭제했습니다.");
@@ -1,6 +1,6 @@
 package com.example.backend.controller;
 
-import com.example.backend.domain.Location;
+import com.example.backend.dto.LocationResponse;
 import com.example.backend.dto.MeetingCreateRequest;
 import com.example.backend.dto.MeetingCreateResponse;
 import com.example.backend.dto.MeetingDetailResponse;
@@ -37,9 +37,11 @@ public class LocationController {
     private final LocationService locationService;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Location>>> getMeetingList(@RequestParam("keyword") String keyword) {
+    public ResponseEntity<ApiResponse<List<LocationResponse>>> getMeetingList(
+            @RequestParam("keyword") String keyword,
+            @RequestParam(defaultValue = "20") int limit) {
 
-        List<Location> locationList = locationService.getLocationList(keyword);
+        List<LocationResponse> locationList = locationService.getLocationList(keyword, limit);
         return ResponseEntity.ok(ApiResponse.success(locationList));
     }
 }
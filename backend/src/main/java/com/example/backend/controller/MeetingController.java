@@ -1,7 +1,7 @@
 package com.example.backend.controller;
 
-import com.example.backend.domain.User;
 import com.example.backend.dto.ChangeMeetingStatusRequest;
+import com.example.backend.dto.KeysetPageResponse;
 import com.example.backend.dto.MeetingCreateRequest;
 import com.example.backend.dto.MeetingCreateResponse;
 import com.example.backend.dto.MeetingDetailResponse;
@@ -14,6 +14,7 @@ import com.example.backend.dto.MeetingSearchCondition;
 import com.example.backend.dto.MeetingUpdateRequest;
 import com.example.backend.enums.MeetingStatus;
 import com.example.backend.global.response.ApiResponse;
+import com.example.backend.security.jwt.AuthUser;
 import com.example.backend.service.MeetingService;
 import jakarta.validation.Valid;
 import java.util.List;
@@ -32,6 +33,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -44,7 +46,7 @@ public class MeetingController {
 
     @PostMapping
     public ResponseEntity<ApiResponse<MeetingCreateResponse>> createMeeting(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal AuthUser user,
             @RequestBody @Valid MeetingCreateRequest request) {
 
         Long meetingId = meetingService.createMeeting(user.getId(), request);
@@ -76,11 +78,24 @@ public class MeetingController {
         return ResponseEntity.ok(ApiResponse.success(meetingList));
     }
 
+    // keyset 커서 기반 목록 (offset 목록과 같은 검색 조건)
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<KeysetPageResponse<MeetingListResponse>>> getMeetingListByCursor(
+            MeetingSearchCondition condition,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "6") int size) {
+
+        KeysetPageResponse<MeetingListResponse> meetingList
+                = meetingService.getMeetingListByCursor(condition, cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success(meetingList));
+    }
+
 
     @PatchMapping("/{meetingId}")
     public ResponseEntity<ApiResponse<Void>> updateMeeting(
             @PathVariable Long meetingId,
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal AuthUser user,
             @RequestBody MeetingUpdateRequest request) {
 
         meetingService.updateMeeting(
@@ -95,7 +110,7 @@ public class MeetingController {
     @PatchMapping("/{meetingId}/status")
     public ApiResponse<Void> changeMeetingStatus(
             @PathVariable Long meetingId,
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal AuthUser user,
             @RequestBody @Valid ChangeMeetingStatusRequest request
     ) {
         meetingService.changeStatus(meetingId, user.getId(), request);
@@ -106,7 +121,7 @@ public class MeetingController {
     public ResponseEntity<ApiResponse<Void>> requestJoin(
             @PathVariable Long meetingId,
             @Valid @RequestBody(required = false) MeetingJoinRequestDto request,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthUser user) {
 
         String message = request != null ? request.getMessage() : null;
         meetingService.requestJoin(meetingId, user.getId(), message);
@@ -117,7 +132,7 @@ public class MeetingController {
     @GetMapping("/{meetingId}/manage/join-requests")
     public ApiResponse<List<MeetingJoinRequestResponse>> getJoinRequests(
             @PathVariable Long meetingId,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthUser user) {
 
         List<MeetingJoinRequestResponse> joinRequests = meetingService.getJoinRequests(meetingId, user.getId());
         return ApiResponse.success(joinRequests);
@@ -127,7 +142,7 @@ public class MeetingController {
     public ApiResponse<Void> approve(
             @PathVariable Long meetingId,
             @PathVariable Long requestId,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthUser user) {
 
         meetingService.approveJoinRequest(meetingId, requestId, user.getId());
         return ApiResponse.success();
@@ -137,7 +152,7 @@ public class MeetingController {
     public ApiResponse<Void> reject(
             @PathVariable Long meetingId,
             @PathVariable Long requestId,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthUser user) {
         meetingService.rejectJoinRequest(meetingId, requestId, user.getId());
         return ApiResponse.success();
     }
@@ -145,7 +160,7 @@ public class MeetingController {
     @GetMapping("{meetingId}/manage/members")
     public ApiResponse<List<MeetingMemberTimelineResponse>> getMembers(
             @PathVariable Long meetingId,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthUser user) {
 
         return ApiResponse.success( meetingService.getMembers(meetingId, user.getId()));
     }
@@ -154,7 +169,7 @@ public class MeetingController {
     public ApiResponse<Void> removeMember(
             @PathVariable Long meetingId,
             @PathVariable Long memberId,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthUser user) {
 
         meetingService.removeMember(meetingId, memberId, user.getId());
         return ApiResponse.success("멤버를 강퇴했습니다.");
@@ -1,11 +1,13 @@
 package com.example.backend.controller;
 
-import com.example.backend.domain.User;
 import com.example.backend.dto.CursorPageResponse;
+import com.example.backend.dto.KeysetPageResponse;
+import com.example.backend.dto.MyActivityItemDto;
 import com.example.backend.dto.MyEventItemDto;
 import com.example.backend.dto.MyMeetingItemDto;
 import com.example.backend.dto.MyQuestionItemDto;
 import com.example.backend.global.response.ApiResponse;
+import com.example.backend.security.jwt.AuthUser;
 import com.example.backend.service.MyPageQueryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -23,7 +25,7 @@ public class MyPageQueryController {
 
     @GetMapping("/meetings")
     public ApiResponse<CursorPageResponse<MyMeetingItemDto>> myMeetings(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal AuthUser user,
             @RequestParam(name = "cursor", required = false) Long cursor,
             @RequestParam(name = "size", defaultValue = "5") int size
     ) {
@@ -32,7 +34,7 @@ public class MyPageQueryController {
 
     @GetMapping("/events")
     public ApiResponse<CursorPageResponse<MyEventItemDto>> myEvents(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal AuthUser user,
             @RequestParam(name = "cursor", required = false) Long cursor,
             @RequestParam(name = "size", defaultValue = "5") int size
     ) {
@@ -44,8 +46,18 @@ public class MyPageQueryController {
     public ApiResponse<CursorPageResponse<MyQuestionItemDto>> myQuestions(
             @RequestParam(name = "cursor", required = false) Long cursor,
             @RequestParam(name = "size", defaultValue = "5") int size,
-            @AuthenticationPrincipal User user
+            @AuthenticationPrincipal AuthUser user
     ) {
         return ApiResponse.success(myPageQueryService.getMyQuestions(user.getId(), cursor, size));
     }
+
+    // 모임/이벤트/질문 활동을 시각 역순으로 합친 타임라인 (cursor 는 이전 응답의 nextCursor)
+    @GetMapping("/activity")
+    public ApiResponse<KeysetPageResponse<MyActivityItemDto>> myActivity(
+            @AuthenticationPrincipal AuthUser user,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size
+    ) {
+        return ApiResponse.success(myPageQueryService.getMyActivity(user.getId(), cursor, size));
+    }
 }
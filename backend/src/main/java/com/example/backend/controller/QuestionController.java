@@ -1,7 +1,7 @@
 package com.example.backend.controller;
 
 
-import com.example.backend.domain.User;
+import com.example.backend.dto.KeysetPageResponse;
 import com.example.backend.dto.QuestionCreateRequest;
 import com.example.backend.dto.QuestionResponseRequest;
 
@@ -9,6 +9,7 @@ import com.example.backend.dto.QuestionResponseRequest;
 import com.example.backend.dto.QuestionSearchRequest;
 import com.example.backend.dto.QuestionUpdateRequest;
 import com.example.backend.global.response.ApiResponse;
+import com.example.backend.security.jwt.AuthUser;
 import com.example.backend.service.QuestionService;
 import jakarta.validation.Valid;
 
@@ -41,7 +42,7 @@ public class QuestionController {
     // 질문 생성
     @PostMapping
     public ResponseEntity<ApiResponse<Long>> create(@RequestBody QuestionCreateRequest request,
-                                                    @AuthenticationPrincipal User user) {
+                                                    @AuthenticationPrincipal AuthUser user) {
 
         Long questionId = questionService.createQuestion(user.getId(), request);
 
@@ -59,6 +60,19 @@ public class QuestionController {
         return ResponseEntity.ok(ApiResponse.success(result));
     }
 
+    // keyset 커서 기반 목록 (sort=viewCount 면 인기순, sort=trending 이면 트렌딩)
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<KeysetPageResponse<QuestionResponseRequest>>> listByCursor(
+            QuestionSearchRequest request,
+            @RequestParam(name = "sort", required = false) String sort,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "6") int size) {
+        KeysetPageResponse<QuestionResponseRequest> result =
+                questionService.getQuestionsByCursor(request, sort, cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+
 
 
     // 질문 상세
@@ -83,7 +97,7 @@ public class QuestionController {
     public ResponseEntity<ApiResponse<Void>> updateQuestion(
             @PathVariable Long questionId,
             @Valid @RequestBody QuestionUpdateRequest request,
-            @AuthenticationPrincipal User user
+            @AuthenticationPrincipal AuthUser user
     ) {
 
         questionService.updateQuestion(questionId, user.getId(), request);
@@ -95,7 +109,7 @@ public class QuestionController {
     @DeleteMapping("/{questionId}")
     public ResponseEntity<ApiResponse<Void>> deleteQuestion(
             @PathVariable Long questionId,
-            @AuthenticationPrincipal User user
+            @AuthenticationPrincipal AuthUser user
     ) {
 
         questionService.deleteQuestion(questionId, user.getId());
@@ -1,6 +1,5 @@
 package com.example.backend.controller;
 
-import com.example.backend.domain.User;
 import com.example.backend.dto.TownDashboardResponse;
 import com.example.backend.global.response.ApiResponse;
 import com.example.backend.service.TownDashboardService;
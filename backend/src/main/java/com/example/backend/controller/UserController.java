@@ -1,11 +1,11 @@
 package com.example.backend.controller;
 
-import com.example.backend.domain.User;
 import com.example.backend.dto.*;
 import com.example.backend.global.exception.custom.CustomException;
 import com.example.backend.global.exception.custom.ErrorCode;
 import com.example.backend.global.response.ApiResponse;
 import com.example.backend.security.cookie.RefreshTokenCookieManager;
+import com.example.backend.security.jwt.AuthUser;
 import com.example.backend.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
@@ -100,7 +100,7 @@ public class UserController {
 
     @GetMapping("/mypage")
     public ResponseEntity<ApiResponse<UserMyPageResponseDto>> getMyPage(
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthUser user) {
 
         UserMyPageResponseDto myInfo = userService.getMyPage(user.getId());
         return ResponseEntity.ok(ApiResponse.success(myInfo));
@@ -108,7 +108,7 @@ public class UserController {
 
     @PatchMapping("/me")
     public ApiResponse<Void> updateMe(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal AuthUser user,
             @RequestBody UserUpdateRequest request) {
         userService.updateUser(user.getId(), request);
         return ApiResponse.success("사용자 정보가 수정되었습니다.");
@@ -116,7 +116,7 @@ public class UserController {
 
     @DeleteMapping("/me")
     public ApiResponse<Void> withdraw(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal AuthUser user,
             @RequestBody UserWithdrawRequest request) {
         userService.withdraw(user.getId(), request.getCurrentPassword());
         return ApiResponse.success("회원 탈퇴가 완료되었습니다.");
@@ -140,7 +140,7 @@ public class UserController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<ApiResponse<UserMeResponse>> me(@AuthenticationPrincipal User user) {
+    public ResponseEntity<ApiResponse<UserMeResponse>> me(@AuthenticationPrincipal AuthUser user) {
         UserMeResponse response = userService.me(user.getId());
         return ResponseEntity.ok(ApiResponse.success("내 정보 조회 성공", response));
     }
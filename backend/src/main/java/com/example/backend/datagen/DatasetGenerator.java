@@ -0,0 +1,445 @@
+package com.example.backend.datagen;
+
+import com.example.backend.enums.EventCategory;
+import com.example.backend.enums.EventStatus;
+import com.example.backend.enums.MeetingCategory;
+import com.example.backend.enums.MeetingStatus;
+import com.example.backend.enums.ParticipantRole;
+import com.example.backend.enums.QuestionCategory;
+import com.example.backend.scheduler.UserActivityCounterScheduler;
+import com.example.backend.service.QuestionTrendingScore;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 성능 테스트용 합성 데이터 적재 (datagen 프로필, ./gradlew datagen)
+ * - 같은 seed 면 같은 데이터 (테이블마다 seed 에서 파생한 난수열을 따로 써서 개수를 바꿔도 다른 테이블은 그대로)
+ * - 쏠림은 Zipf 로: 동네 인기(사용자/모임/이벤트/질문 위치), 모임/이벤트 인원, 질문별 답변 수
+ * - id 를 직접 넣고 batch-size 행 단위 JDBC batch insert (chunk 마다 트랜잭션)
+ * - member_count / 상태 / view_count 는 생성한 행과 맞춰 넣고, 활동 수와 트렌딩 점수는 기존 backfill 로 채운다
+ * - 빈 DB 에서만 실행 (users 에 행이 있으면 중단)
+ */
+@Slf4j
+@Component
+@Profile("datagen")
+public class DatasetGenerator implements CommandLineRunner {
+
+    private static final String[] PROVINCES = {
+            "서울특별시", "부산광역시", "대구광역시", "인천광역시", "광주광역시", "대전광역시", "울산광역시", "세종특별자치시",
+            "경기도", "강원특별자치도", "충청북도", "충청남도", "전북특별자치도", "전라남도", "경상북도", "경상남도", "제주특별자치도"
+    };
+
+    // 검색(LIKE / FULLTEXT) 이 걸릴 만한 단어
+    private static final String[] WORDS = {
+            "러닝", "독서", "보드게임", "맛집", "산책", "사진", "요가", "등산", "코딩", "영어", "봉사", "축제", "전시", "공연", "반려견"
+    };
+
+    // 번개(FLASH) 는 당일 이벤트만 허용되므로 생성하지 않는다
+    private static final EventCategory[] EVENT_CATEGORIES = Arrays.stream(EventCategory.values())
+            .filter(category -> category != EventCategory.FLASH)
+            .toArray(EventCategory[]::new);
+
+    private static final String USER_INSERT = "insert into users (id, email, password, nickname, location_id, "
+            + "created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?)";
+
+    // 테이블별 난수열 구분값
+    private static final long LOCATION_SALT = 0x1001;
+    private static final long USER_SALT = 0x2002;
+    private static final long MEETING_SALT = 0x3003;
+    private static final long EVENT_SALT = 0x4004;
+    private static final long QUESTION_SALT = 0x5005;
+    private static final long ANSWER_SALT = 0x6006;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final UserActivityCounterScheduler userActivityCounterScheduler;
+    private final QuestionTrendingScore questionTrendingScore;
+    private final ConfigurableApplicationContext context;
+
+    // 모든 created_at 은 이 시각 이전 (이벤트 start_at 은 이후도 있음)
+    private final LocalDateTime baseTime;
+
+    @Value("${datagen.seed:42}")
+    private long seed;
+
+    @Value("${datagen.history-days:365}")
+    private int historyDays;
+
+    @Value("${datagen.batch-size:2000}")
+    private int batchSize;
+
+    @Value("${datagen.locations:250}")
+    private int locations;
+
+    @Value("${datagen.users:100000}")
+    private int users;
+
+    @Value("${datagen.meetings:20000}")
+    private int meetings;
+
+    @Value("${datagen.meeting-max-members:300}")
+    private int meetingMaxMembers;
+
+    @Value("${datagen.events:100000}")
+    private int events;
+
+    @Value("${datagen.event-max-members:500}")
+    private int eventMaxMembers;
+
+    @Value("${datagen.questions:200000}")
+    private int questions;
+
+    @Value("${datagen.answers:1000000}")
+    private int answers;
+
+    // Zipf 지수 (클수록 상위 몇 개에 더 몰린다)
+    @Value("${datagen.town-skew:1.1}")
+    private double townSkew;
+
+    @Value("${datagen.size-skew:1.3}")
+    private double sizeSkew;
+
+    @Value("${datagen.question-skew:1.2}")
+    private double questionSkew;
+
+    @Value("${datagen.password:password1234}")
+    private String password;
+
+    @Value("${datagen.exit-on-finish:true}")
+    private boolean exitOnFinish;
+
+    // 동네 인기 순위 -> location id
+    private ZipfSampler townSampler;
+    private int[] townOrder;
+
+    public DatasetGenerator(
+            JdbcTemplate jdbcTemplate,
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            PasswordEncoder passwordEncoder,
+            UserActivityCounterScheduler userActivityCounterScheduler,
+            QuestionTrendingScore questionTrendingScore,
+            ConfigurableApplicationContext context,
+            @Value("${datagen.base-time:2026-01-01T00:00:00}") String baseTime
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.userActivityCounterScheduler = userActivityCounterScheduler;
+        this.questionTrendingScore = questionTrendingScore;
+        this.context = context;
+        this.baseTime = LocalDateTime.parse(baseTime);
+    }
+
+    @Override
+    public void run(String... args) {
+        Long existing = jdbcTemplate.queryForObject("select count(*) from users", Long.class);
+        if (existing != null && existing > 0) {
+            throw new IllegalStateException("[datagen] users 테이블이 비어 있지 않음 (" + existing + "건), 빈 DB 에서 실행");
+        }
+
+        log.info("[datagen] seed={} locations={} users={} meetings={} events={} questions={} answers={}",
+                seed, locations, users, meetings, events, questions, answers);
+        long started = System.nanoTime();
+
+        townSampler = new ZipfSampler(locations, townSkew);
+        townOrder = ZipfSampler.permutation(locations, random(LOCATION_SALT));
+
+        step("locations", this::generateLocations);
+        step("users", this::generateUsers);
+        step("meetings", this::generateMeetings);
+        step("events", this::generateEvents);
+        step("questions/answers", this::generateQuestions);
+
+        if (isH2()) {
+            restartIdentities();
+        }
+
+        userActivityCounterScheduler.backfill();
+        questionTrendingScore.backfill();
+
+        log.info("[datagen] 완료 {}ms", (System.nanoTime() - started) / 1_000_000);
+
+        if (exitOnFinish) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+    private long generateLocations() {
+        List<Object[]> rows = new ArrayList<>(locations);
+        for (int i = 0; i < locations; i++) {
+            // (시/도, 시/군/구) 조합이 겹치지 않도록 i 로 구분
+            rows.add(new Object[]{i + 1L, PROVINCES[i % PROVINCES.length], (i / PROVINCES.length + 1) + "구"});
+        }
+        insert("insert into locations (id, province, city) values (?, ?, ?)", rows);
+        return rows.size();
+    }
+
+    private long generateUsers() {
+        SplittableRandom random = random(USER_SALT);
+        String encoded = passwordEncoder.encode(password);
+        LocalDateTime joinedFrom = baseTime.minusDays(historyDays + 30L);
+
+        List<Object[]> rows = new ArrayList<>(batchSize);
+        for (long id = 1; id <= users; id++) {
+            LocalDateTime createdAt = joinedFrom.plusSeconds(random.nextLong(30L * 86400));
+            rows.add(new Object[]{id, "user" + id + "@datagen.local", encoded, "user" + id, town(random), createdAt, createdAt});
+            if (rows.size() >= batchSize) {
+                insert(USER_INSERT, rows);
+            }
+        }
+        insert(USER_INSERT, rows);
+        return users;
+    }
+
+    private long generateMeetings() {
+        SplittableRandom random = random(MEETING_SALT);
+        ZipfSampler sizeSampler = new ZipfSampler(Math.min(meetingMaxMembers, users), sizeSkew);
+        MeetingCategory[] categories = MeetingCategory.values();
+
+        List<Object[]> meetingRows = new ArrayList<>(batchSize);
+        List<Object[]> memberRows = new ArrayList<>();
+        long memberId = 0;
+
+        for (long id = 1; id <= meetings; id++) {
+            int size = sizeSampler.sample(random) + 1;
+            int capacity = size + random.nextInt(size / 2 + 2);
+            long hostId = 1 + random.nextInt(users);
+            LocalDateTime createdAt = pastTime(random);
+
+            meetingRows.add(new Object[]{
+                    id, "모임 " + id + " " + word(random), description(random), categories[random.nextInt(categories.length)].name(),
+                    town(random), word(random) + " 장소", "매주 " + (1 + random.nextInt(7)) + "요일", capacity, size,
+                    (size < capacity ? MeetingStatus.RECRUITING : MeetingStatus.ACTIVE).name(), hostId, createdAt, createdAt
+            });
+            memberId = addMembers(memberRows, memberId, id, hostId, size, createdAt, random);
+
+            if (meetingRows.size() >= batchSize) {
+                flushMeetings(meetingRows, memberRows);
+            }
+        }
+        flushMeetings(meetingRows, memberRows);
+        return memberId;
+    }
+
+    private long generateEvents() {
+        SplittableRandom random = random(EVENT_SALT);
+        ZipfSampler sizeSampler = new ZipfSampler(Math.min(eventMaxMembers, users), sizeSkew);
+
+        List<Object[]> eventRows = new ArrayList<>(batchSize);
+        List<Object[]> memberRows = new ArrayList<>();
+        long memberId = 0;
+
+        for (long id = 1; id <= events; id++) {
+            int size = sizeSampler.sample(random) + 1;
+            int capacity = size + random.nextInt(size / 2 + 2);
+            long hostId = 1 + random.nextInt(users);
+
+            // 지난 이벤트 ~ 앞으로 60일 이내 이벤트, 생성은 시작 1~30일 전 (baseTime 이후로는 넘기지 않음)
+            LocalDateTime startAt = baseTime.minusDays(historyDays).plusMinutes(random.nextLong((historyDays + 60L) * 1440));
+            LocalDateTime createdAt = min(startAt.minusDays(1 + random.nextInt(30)), baseTime.minusMinutes(1));
+
+            EventStatus status;
+            if (random.nextInt(100) < 3) {
+                status = EventStatus.CANCELED;
+            } else if (!startAt.isAfter(baseTime) || size >= capacity) {
+                status = EventStatus.CLOSED;
+            } else {
+                status = EventStatus.RECRUITING;
+            }
+
+            eventRows.add(new Object[]{
+                    id, "이벤트 " + id + " " + word(random), description(random),
+                    EVENT_CATEGORIES[random.nextInt(EVENT_CATEGORIES.length)].name(), town(random), word(random) + " 장소",
+                    startAt, capacity, size, status.name(), hostId, createdAt, createdAt
+            });
+            memberId = addMembers(memberRows, memberId, id, hostId, size, createdAt, random);
+
+            if (eventRows.size() >= batchSize) {
+                flushEvents(eventRows, memberRows);
+            }
+        }
+        flushEvents(eventRows, memberRows);
+        return memberId;
+    }
+
+    private long generateQuestions() {
+        SplittableRandom random = random(QUESTION_SALT);
+        SplittableRandom answerRandom = random(ANSWER_SALT);
+        QuestionCategory[] categories = QuestionCategory.values();
+
+        // 질문별 답변 수를 먼저 정해 두고 view_count 를 거기에 맞춘다 (인기 질문일수록 조회도 많게)
+        int[] answerCounts = new int[questions];
+        if (questions > 0) {
+            ZipfSampler popularity = new ZipfSampler(questions, questionSkew);
+            int[] order = ZipfSampler.permutation(questions, answerRandom);
+            for (int i = 0; i < answers; i++) {
+                answerCounts[order[popularity.sample(answerRandom)]]++;
+            }
+        }
+
+        List<Object[]> questionRows = new ArrayList<>(batchSize);
+        List<Object[]> answerRows = new ArrayList<>();
+        long answerId = 0;
+
+        for (int i = 0; i < questions; i++) {
+            long id = i + 1L;
+            int answerCount = answerCounts[i];
+            int viewCount = answerCount * (5 + random.nextInt(20)) + random.nextInt(30);
+            LocalDateTime createdAt = pastTime(random);
+
+            questionRows.add(new Object[]{
+                    id, word(random) + " 질문 " + id, description(random), categories[random.nextInt(categories.length)].name(),
+                    town(random), 1 + random.nextInt(users), viewCount, createdAt, createdAt
+            });
+
+            long span = Math.max(Duration.between(createdAt, baseTime).toSeconds(), 1);
+            for (int j = 0; j < answerCount; j++) {
+                LocalDateTime answeredAt = createdAt.plusSeconds(answerRandom.nextLong(span));
+                boolean accepted = j == 0 && answerRandom.nextInt(100) < 30;
+                answerRows.add(new Object[]{
+                        ++answerId, word(answerRandom) + " 답변", accepted, id, 1 + answerRandom.nextInt(users), answeredAt, answeredAt
+                });
+            }
+
+            if (questionRows.size() >= batchSize) {
+                flushQuestions(questionRows, answerRows);
+            }
+        }
+        flushQuestions(questionRows, answerRows);
+        return questions + answerId;
+    }
+
+    // 주최자 + 주최자 다음 id 부터 이어지는 사용자 (겹치지 않는 참여자, users 를 넘으면 1번부터)
+    private long addMembers(List<Object[]> rows, long lastId, long parentId, long hostId, int size,
+                            LocalDateTime parentCreatedAt, SplittableRandom random) {
+        long span = Math.max(Math.min(Duration.between(parentCreatedAt, baseTime).toSeconds(), 7L * 86400), 1);
+        for (int i = 0; i < size; i++) {
+            long userId = (hostId - 1 + i) % users + 1;
+            LocalDateTime joinedAt = i == 0 ? parentCreatedAt : parentCreatedAt.plusSeconds(random.nextLong(span));
+            ParticipantRole role = i == 0 ? ParticipantRole.HOST : ParticipantRole.MEMBER;
+            rows.add(new Object[]{++lastId, parentId, userId, role.name(), joinedAt, joinedAt});
+        }
+        return lastId;
+    }
+
+    private void flushMeetings(List<Object[]> meetingRows, List<Object[]> memberRows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            batch("insert into meetings (id, title, description, category, location_id, meeting_place, schedule, capacity, "
+                    + "member_count, status, host_id, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", meetingRows);
+            batch("insert into meeting_members (id, meeting_id, user_id, role, created_at, updated_at) "
+                    + "values (?, ?, ?, ?, ?, ?)", memberRows);
+        });
+        meetingRows.clear();
+        memberRows.clear();
+    }
+
+    private void flushEvents(List<Object[]> eventRows, List<Object[]> memberRows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            batch("insert into events (id, title, description, category, location_id, event_place, start_at, capacity, "
+                    + "member_count, status, host_id, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", eventRows);
+            batch("insert into event_members (id, event_id, user_id, role, created_at, updated_at) "
+                    + "values (?, ?, ?, ?, ?, ?)", memberRows);
+        });
+        eventRows.clear();
+        memberRows.clear();
+    }
+
+    private void flushQuestions(List<Object[]> questionRows, List<Object[]> answerRows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            batch("insert into questions (id, title, content, question_category, location_id, user_id, view_count, "
+                    + "trending_score, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, 0, ?, ?)", questionRows);
+            batch("insert into answers (id, content, is_accepted, question_id, user_id, created_at, updated_at) "
+                    + "values (?, ?, ?, ?, ?, ?, ?)", answerRows);
+        });
+        questionRows.clear();
+        answerRows.clear();
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        transactionTemplate.executeWithoutResult(status -> batch(sql, rows));
+        rows.clear();
+    }
+
+    // 큰 모임이 몰린 chunk 도 batch-size 단위로 나눠 보낸다
+    private void batch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + batchSize, rows.size())));
+        }
+    }
+
+    // 직접 넣은 id 뒤로 identity 를 옮긴다 (MySQL AUTO_INCREMENT 는 알아서 따라옴)
+    private void restartIdentities() {
+        for (String table : List.of("locations", "users", "meetings", "meeting_members", "events", "event_members",
+                "questions", "answers")) {
+            Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+            jdbcTemplate.execute("alter table " + table + " alter column id restart with " + (maxId + 1));
+        }
+    }
+
+    private boolean isH2() {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            return "H2".equalsIgnoreCase(metaData.getDatabaseProductName());
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void step(String name, Step step) {
+        long started = System.nanoTime();
+        long rows = step.run();
+        log.info("[datagen] {} {}행 {}ms", name, rows, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private SplittableRandom random(long salt) {
+        return new SplittableRandom(seed ^ salt);
+    }
+
+    private long town(SplittableRandom random) {
+        return townOrder[townSampler.sample(random)] + 1L;
+    }
+
+    private LocalDateTime pastTime(SplittableRandom random) {
+        return baseTime.minusSeconds(1 + random.nextLong((long) historyDays * 86400));
+    }
+
+    private String word(SplittableRandom random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private String description(SplittableRandom random) {
+        return word(random) + " 좋아하는 분들 함께해요. " + word(random) + " 도 같이 해요.";
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    @FunctionalInterface
+    private interface Step {
+        long run();
+    }
+}
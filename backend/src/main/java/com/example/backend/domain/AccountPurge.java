@@ -0,0 +1,41 @@
+package com.example.backend.domain;
+
+import com.example.backend.enums.AccountPurgeStep;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 탈퇴 계정 정리 진행 상태 (AccountPurgeJob)
+ * - 탈퇴 트랜잭션에서 만들고, 사용자 행을 지우는 마지막 트랜잭션에서 같이 지운다
+ * - 단계(step) 와 지금까지 지운 행 수만 기록: 각 단계는 "남은 행" 기준으로 다시 조회하므로
+ *   중간에 죽어도 현재 단계부터 이어서 하면 된다
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "account_purges")
+public class AccountPurge extends BaseEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private AccountPurgeStep step;
+
+    @Column(nullable = false)
+    private long deletedRows;
+
+    public AccountPurge(Long userId) {
+        this.userId = userId;
+        this.step = AccountPurgeStep.HOSTED_MEETINGS;
+    }
+}
@@ -9,6 +9,9 @@ import com.example.backend.enums.EventStatus;
 import com.example.backend.global.exception.custom.CustomException;
 import com.example.backend.global.exception.custom.ErrorCode;
 
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -18,6 +21,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -31,9 +35,16 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @Builder
+@DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "events")
+@Table(
+	name = "events",
+	indexes = {
+		@Index(name = "idx_events_created_at_id", columnList = "created_at, id"),
+		@Index(name = "idx_events_status_start_at", columnList = "status, start_at")
+	}
+)
 public class Event extends BaseEntity {
 
 	@Id
@@ -64,6 +75,11 @@ public class Event extends BaseEntity {
 	@Column(nullable = false)
 	private int capacity;
 
+	/** 참여 인원 (호스트 포함), EventRepository 의 증감 쿼리로만 변경 */
+	@Column(nullable = false)
+	@ColumnDefault("0")
+	private int memberCount;
+
 	@Enumerated(EnumType.STRING)
 	@Column(nullable = false)
 	private EventStatus status;
@@ -13,10 +13,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.AccessLevel;
@@ -28,9 +31,15 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @Builder
+@DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "meetings")
+@Table(
+        name = "meetings",
+        indexes = {
+                @Index(name = "idx_meetings_created_at_id", columnList = "created_at, id")
+        }
+)
 public class Meeting extends BaseEntity{
 
     @Id
@@ -60,6 +69,11 @@ public class Meeting extends BaseEntity{
     @Column(nullable = false)
     private int capacity;
 
+    /** 참여 인원 (호스트 포함), MeetingRepository 의 증감 쿼리로만 변경 */
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int memberCount;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private MeetingStatus status;
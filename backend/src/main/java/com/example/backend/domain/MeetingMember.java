@@ -10,6 +10,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -29,6 +30,10 @@ import lombok.NoArgsConstructor;
 	name = "meeting_members",
 	uniqueConstraints = {
 		@UniqueConstraint(columnNames = {"meeting_id", "user_id"})
+	},
+	indexes = {
+		// 마이페이지 활동 타임라인 (참여 시각 역순)
+		@Index(name = "idx_meeting_members_user_created_at", columnList = "user_id, created_at")
 	}
 )
 public class MeetingMember extends BaseEntity {
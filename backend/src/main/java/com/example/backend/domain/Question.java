@@ -10,6 +10,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -18,11 +19,22 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "questions")
+@DynamicUpdate // view_count, trending_score 는 DB 에서 직접 갱신하므로 엔티티 수정 시 덮어쓰지 않도록
+@Table(
+        name = "questions",
+        indexes = {
+                @Index(name = "idx_questions_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_questions_view_count_id", columnList = "view_count, id"),
+                @Index(name = "idx_questions_trending_score_id", columnList = "trending_score, id"),
+                @Index(name = "idx_questions_user_created_at", columnList = "user_id, created_at")
+        }
+)
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -49,9 +61,14 @@ public class Question extends BaseEntity {
     @JoinColumn(name = "user_id")
     private User user;
 
-    @Column(nullable = false)
+    @Column(name = "view_count", nullable = false)
     private int viewCount=0;
 
+    // 시간 감쇠 인기도 (QuestionTrendingScore), 조회/답변 시 DB 에서 직접 누적
+    @ColumnDefault("0")
+    @Column(name = "trending_score", nullable = false)
+    private double trendingScore;
+
     public void update(QuestionCategory category, String title, String content) {
         if (category != null) {
             this.questionCategory = category;
@@ -1,6 +1,7 @@
 package com.example.backend.domain;
 
 import jakarta.persistence.*;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.Builder;
@@ -30,6 +31,9 @@ public class User extends BaseEntity {
     @JoinColumn(name = "location_id")
     private Location location;
 
+    // 탈퇴 시각 (null 이 아니면 로그인/인증 불가, 데이터는 AccountPurgeJob 이 정리)
+    private LocalDateTime withdrawnAt;
+
     @OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
     private List<MeetingMember> meetingMembers = new ArrayList<>();
 
@@ -55,4 +59,12 @@ public class User extends BaseEntity {
     public void changeLocation(Location location) {
         this.location = location;
     }
+
+    public void withdraw() {
+        this.withdrawnAt = LocalDateTime.now();
+    }
+
+    public boolean isWithdrawn() {
+        return withdrawnAt != null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.example.backend.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * 사용자별 활동 수 (마이페이지 헤더용)
+ * - 참여 모임/이벤트, 작성 질문 수를 멤버/질문 쓰기와 같은 트랜잭션에서 증감 (UserActivityCounterRepository)
+ * - 어긋난 값은 UserActivityCounterScheduler 가 실제 개수로 보정
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "user_activity_counters")
+public class UserActivityCounter {
+
+    @Id
+    private Long userId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long meetingCount;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long eventCount;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long questionCount;
+
+    public UserActivityCounter(User user) {
+        this.user = user;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.backend.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 상태 전환 대상 이벤트 (변경 이벤트 발행에 필요한 값만)
+@Getter
+@AllArgsConstructor
+public class EventLifecycleRow {
+    private Long id;
+    private Long locationId;
+    private LocalDateTime startAt;
+}
@@ -0,0 +1,43 @@
+package com.example.backend.dto;
+
+import com.example.backend.global.exception.custom.CustomException;
+import com.example.backend.global.exception.custom.ErrorCode;
+import com.example.backend.repository.support.KeysetCursor;
+import java.util.List;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * keyset 페이지 응답 (CursorPageResponse 와 같은 형태, 커서만 불투명 문자열)
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetPageResponse<T> {
+
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+
+    private static final int MAX_SIZE = 100;
+
+    public static void validateSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_PAGE_SIZE);
+        }
+    }
+
+    // items 는 size + 1 개까지 조회된 결과
+    public static <T> KeysetPageResponse<T> of(List<T> items, int size, Function<T, KeysetCursor> cursorOf) {
+        boolean hasNext = items.size() > size;
+        if (hasNext) {
+            items.remove(size);
+        }
+
+        String nextCursor = items.isEmpty()
+                ? null
+                : cursorOf.apply(items.get(items.size() - 1)).encode();
+
+        return new KeysetPageResponse<>(items, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.backend.dto;
+
+import com.example.backend.domain.Location;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 기존 Location 엔티티 응답과 같은 형태 (id, province, city)
+@Getter
+@AllArgsConstructor
+public class LocationResponse {
+    private Long id;
+    private String province;
+    private String city;
+
+    public static LocationResponse from(Location location) {
+        return new LocationResponse(location.getId(), location.getProvince(), location.getCity());
+    }
+}
@@ -2,6 +2,7 @@ package com.example.backend.dto;
 
 import com.example.backend.enums.MeetingCategory;
 import com.example.backend.enums.MeetingStatus;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,4 +24,6 @@ public class MeetingListResponse {
 
     private int capacity;
     private long memberCount;
+
+    private LocalDateTime createdAt;
 }
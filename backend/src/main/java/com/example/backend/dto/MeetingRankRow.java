@@ -0,0 +1,21 @@
+package com.example.backend.dto;
+
+import com.example.backend.enums.MeetingCategory;
+import com.example.backend.enums.MeetingStatus;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 인기 모임 순위 계산용 (meetings 행만으로 구성)
+@Getter
+@AllArgsConstructor
+public class MeetingRankRow {
+    private Long id;
+    private Long locationId;
+    private String title;
+    private MeetingCategory category;
+    private MeetingStatus status;
+    private int memberCount;
+    private int capacity;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,37 @@
+package com.example.backend.dto;
+
+import com.example.backend.enums.ActivityType;
+import com.example.backend.repository.support.ActivityCursor;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 마이페이지 활동 타임라인 항목
+ * item 은 type 에 따라 MyMeetingItemDto / MyEventItemDto / MyQuestionItemDto 를 그대로 담는다
+ */
+@Getter
+@AllArgsConstructor
+public class MyActivityItemDto {
+
+    private final ActivityType type;
+    private final Long id;
+    private final LocalDateTime occurredAt;
+    private final Object item;
+
+    public static MyActivityItemDto of(MyMeetingItemDto meeting) {
+        return new MyActivityItemDto(ActivityType.MEETING, meeting.getMeetingId(), meeting.getJoinedAt(), meeting);
+    }
+
+    public static MyActivityItemDto of(MyEventItemDto event) {
+        return new MyActivityItemDto(ActivityType.EVENT, event.getEventId(), event.getJoinedAt(), event);
+    }
+
+    public static MyActivityItemDto of(MyQuestionItemDto question) {
+        return new MyActivityItemDto(ActivityType.QUESTION, question.getQuestionId(), question.getCreatedAt(), question);
+    }
+
+    public ActivityCursor toCursor() {
+        return ActivityCursor.of(occurredAt, type, id);
+    }
+}
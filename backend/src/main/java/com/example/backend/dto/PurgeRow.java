@@ -0,0 +1,12 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 탈퇴 정리 chunk 대상 행 (삭제할 행 id + 같이 갱신할 대상 id: 사용자 또는 모임/이벤트)
+@Getter
+@AllArgsConstructor
+public class PurgeRow {
+    private Long id;
+    private Long refId;
+}
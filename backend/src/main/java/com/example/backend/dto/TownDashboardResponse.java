@@ -12,4 +12,7 @@ public class TownDashboardResponse {
     private List<PopularMeetingDto> popularMeetings;
     private List<UpcomingEventDto> upcomingEvents;
     private List<LatestQuestionDto> latestQuestions;
+
+    // 일부 하위 쿼리가 실패/타임아웃되어 기본값으로 채워진 경우 true
+    private boolean partial;
 }
\ No newline at end of file
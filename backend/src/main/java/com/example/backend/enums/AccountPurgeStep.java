@@ -0,0 +1,16 @@
+package com.example.backend.enums;
+
+// 탈퇴 계정 정리 단계 (선언 순서대로 진행, 각 단계는 남은 행이 없을 때까지 chunk 단위로 반복)
+public enum AccountPurgeStep {
+    HOSTED_MEETINGS,    // 주최한 모임 (멤버 -> 참여 신청 -> 모임)
+    HOSTED_EVENTS,      // 주최한 이벤트 (멤버 -> 참여 신청 -> 이벤트)
+    QUESTIONS,          // 내 질문에 달린 답변 -> 내 질문 -> 내가 쓴 답변
+    JOIN_REQUESTS,      // 내가 보낸 모임/이벤트 참여 신청
+    MEMBERSHIPS,        // 참여 중인 모임/이벤트 (인원 차감 후 삭제)
+    ACCOUNT;            // 토큰, 활동 수, 사용자 행
+
+    public AccountPurgeStep next() {
+        AccountPurgeStep[] steps = values();
+        return ordinal() + 1 < steps.length ? steps[ordinal() + 1] : this;
+    }
+}
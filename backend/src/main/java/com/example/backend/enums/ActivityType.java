@@ -0,0 +1,8 @@
+package com.example.backend.enums;
+
+// 마이페이지 활동 타임라인 항목 종류 (같은 시각이면 선언 역순으로 먼저 나온다)
+public enum ActivityType {
+    QUESTION,
+    EVENT,
+    MEETING
+}
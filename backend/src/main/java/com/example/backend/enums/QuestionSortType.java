@@ -0,0 +1,23 @@
+package com.example.backend.enums;
+
+public enum QuestionSortType {
+    LATEST,     // 최신순 (createdAt)
+    POPULAR,    // 인기순 (viewCount)
+    TRENDING;   // 트렌딩 (시간 감쇠 인기도, trendingScore)
+
+    // 기존 pageable sort 값(viewCount)과 같은 이름도 허용
+    public static QuestionSortType from(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return LATEST;
+        }
+
+        String property = sort.split(",")[0].trim();
+        if (property.equalsIgnoreCase("viewCount") || property.equalsIgnoreCase(POPULAR.name())) {
+            return POPULAR;
+        }
+        if (property.equalsIgnoreCase("trendingScore") || property.equalsIgnoreCase(TRENDING.name())) {
+            return TRENDING;
+        }
+        return LATEST;
+    }
+}
@@ -14,6 +14,8 @@ public enum ErrorCode {
 	INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "COMMON-002", "요청 값이 올바르지 않습니다."),
 	METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "COMMON-003", "지원하지 않는 HTTP 메서드입니다."),
 	INVALID_JSON_FORMAT(HttpStatus.BAD_REQUEST, "COMMON-004", "요청 본문(JSON) 형식이 올바르지 않습니다."),
+	INVALID_CURSOR(HttpStatus.BAD_REQUEST, "COMMON-005", "유효하지 않은 커서입니다."),
+	INVALID_PAGE_SIZE(HttpStatus.BAD_REQUEST, "COMMON-006", "페이지 크기는 1~100 사이여야 합니다."),
 
 	// AUTH
 	INVALID_LOGIN(HttpStatus.UNAUTHORIZED, "AUTH_001", "이메일 또는 비밀번호가 올바르지 않습니다."),
@@ -78,6 +80,9 @@ public enum ErrorCode {
 	EVENT_JOIN_REQUEST_NOT_PENDING(HttpStatus.BAD_REQUEST, "EVENT_012", "대기 상태의 참여 신청만 취소할 수 있습니다."),
 	EVENT_MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "EVENT_013", "해당 멤버를 이벤트에서 조회할 수 없습니다."),
 	EVENT_HOST_CANNOT_BE_REMOVED(HttpStatus.BAD_REQUEST, "EVENT_014", "방장은 삭제할 수 없습니다."),
+	FLASH_STREAM_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "EVENT_015", "실시간 번개 목록 구독이 가득 찼습니다. 잠시 후 다시 시도해주세요."),
+	CALENDAR_RANGE_TOO_LARGE(HttpStatus.BAD_REQUEST, "EVENT_016", "캘린더 조회 기간이 너무 깁니다."),
+	FLASH_STREAM_TOO_MANY(HttpStatus.TOO_MANY_REQUESTS, "EVENT_017", "실시간 번개 목록 구독이 너무 많습니다. 사용하지 않는 연결을 닫아주세요."),
 
 	;
 
@@ -62,6 +62,7 @@ public class EventMapper {
 			.eventPlace(request.getEventPlace())
 			.startAt(request.getStartAt())
 			.capacity(request.getCapacity())
+			.memberCount(1) // 호스트
 			.status(EventStatus.RECRUITING)
 			.host(host)
 			.location(location)
@@ -48,6 +48,7 @@ public class MeetingMapper {
                 .meetingPlace(request.getMeetingPlace())
                 .schedule(request.getSchedule())
                 .capacity(request.getCapacity())
+                .memberCount(1) // 호스트
                 .status(MeetingStatus.RECRUITING)
                 .host(host)
                 .location(location)
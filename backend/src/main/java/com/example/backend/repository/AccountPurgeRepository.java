@@ -0,0 +1,26 @@
+package com.example.backend.repository;
+
+import com.example.backend.domain.AccountPurge;
+import com.example.backend.enums.AccountPurgeStep;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AccountPurgeRepository extends JpaRepository<AccountPurge, Long> {
+
+    // 먼저 탈퇴한 계정부터
+    @Query("select p from AccountPurge p order by p.createdAt, p.userId")
+    List<AccountPurge> findPending(Pageable pageable);
+
+    // chunk 삭제와 같은 트랜잭션에서 호출
+    @Modifying(flushAutomatically = true)
+    @Query("update AccountPurge p set p.deletedRows = p.deletedRows + :deleted where p.userId = :userId")
+    int addDeletedRows(@Param("userId") Long userId, @Param("deleted") long deleted);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update AccountPurge p set p.step = :step where p.userId = :userId")
+    int moveTo(@Param("userId") Long userId, @Param("step") AccountPurgeStep step);
+}
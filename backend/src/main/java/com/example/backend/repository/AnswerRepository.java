@@ -1,9 +1,9 @@
 package com.example.backend.repository;
 
-import com.example.backend.domain.User;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -28,5 +28,11 @@ public interface AnswerRepository extends JpaRepository<Answer, Long> {
 	Optional<Answer> findByQuestionIdAndIsAcceptedTrue(Long questionId);
 
 	int countByUserId(Long userId);
-	void deleteByUser(User user);
+
+	// 탈퇴 정리 chunk: 내 질문에 달린 답변 / 내가 쓴 답변
+	@Query("select a.id from Answer a where a.question.user.id = :userId order by a.id")
+	List<Long> findIdsByQuestionUserId(@Param("userId") Long userId, Pageable pageable);
+
+	@Query("select a.id from Answer a where a.user.id = :userId order by a.id")
+	List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
 }
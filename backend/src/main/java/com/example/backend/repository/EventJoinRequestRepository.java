@@ -3,7 +3,10 @@ package com.example.backend.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.backend.domain.Event;
 import com.example.backend.domain.EventJoinRequest;
@@ -13,7 +16,11 @@ import com.example.backend.enums.JoinRequestStatus;
 public interface EventJoinRequestRepository extends JpaRepository<EventJoinRequest, Long> {
 	boolean existsByEventAndUser(Event event, User user);
 
-	List<EventJoinRequest> findByEventAndStatusOrderByCreatedAtDesc(Event event, JoinRequestStatus status);
+	// 신청 목록 (신청자 닉네임 표시용 user 를 함께 로딩)
+	@Query("select r from EventJoinRequest r join fetch r.user "
+		+ "where r.event = :event and r.status = :status order by r.createdAt desc")
+	List<EventJoinRequest> findByEventAndStatusOrderByCreatedAtDesc(
+		@Param("event") Event event, @Param("status") JoinRequestStatus status);
 
 	Optional<EventJoinRequest> findByIdAndEventId(Long id, Long eventId);
 
@@ -21,5 +28,10 @@ public interface EventJoinRequestRepository extends JpaRepository<EventJoinReque
 
 	Optional<EventJoinRequest> findByEventAndUser(Event event, User user);
 
-	void deleteByEvent(Event event);
+	// 탈퇴 정리 chunk
+	@Query("select r.id from EventJoinRequest r where r.event.id = :eventId order by r.id")
+	List<Long> findIdsByEventId(@Param("eventId") Long eventId, Pageable pageable);
+
+	@Query("select r.id from EventJoinRequest r where r.user.id = :userId order by r.id")
+	List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
 }
@@ -3,14 +3,19 @@ package com.example.backend.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.backend.domain.Event;
 import com.example.backend.domain.EventMember;
+import com.example.backend.dto.PurgeRow;
 import com.example.backend.enums.ParticipantRole;
 
 public interface EventMemberRepository extends JpaRepository<EventMember, Long> {
-	boolean existsByEventIdAndUserIdAndRole(
+	// 주최자 검증: 탈퇴한 계정은 기존 토큰이 남아 있어도 관리 권한 없음
+	boolean existsByEventIdAndUserIdAndRoleAndUserWithdrawnAtIsNull(
 		Long eventId,
 		Long userId,
 		ParticipantRole role
@@ -18,11 +23,21 @@ public interface EventMemberRepository extends JpaRepository<EventMember, Long>
 
 	long countByEvent(Event event);
 
-	List<EventMember> findAllByEvent(Event event);
+	// 관리 화면 멤버 목록 (닉네임 표시용 user 를 함께 로딩)
+	@Query("select em from EventMember em join fetch em.user where em.event = :event")
+	List<EventMember> findAllByEvent(@Param("event") Event event);
 
 	Optional<EventMember> findByIdAndEvent(Long id, Event event);
 
 	long countByUserId(long userId);
 
-	void deleteByEvent(Event event);
+	// 탈퇴 정리: 이벤트의 멤버 chunk (refId = 사용자 id)
+	@Query("select new com.example.backend.dto.PurgeRow(em.id, em.user.id) "
+		+ "from EventMember em where em.event.id = :eventId order by em.id")
+	List<PurgeRow> findPurgeRowsByEventId(@Param("eventId") Long eventId, Pageable pageable);
+
+	// 탈퇴 정리: 사용자가 참여 중인 이벤트 chunk (refId = 이벤트 id)
+	@Query("select new com.example.backend.dto.PurgeRow(em.id, em.event.id) "
+		+ "from EventMember em where em.user.id = :userId order by em.id")
+	List<PurgeRow> findPurgeRowsByUserId(@Param("userId") Long userId, Pageable pageable);
 }
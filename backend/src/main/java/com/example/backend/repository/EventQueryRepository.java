@@ -2,7 +2,9 @@ package com.example.backend.repository;
 
 import com.example.backend.dto.MyEventItemDto;
 import com.example.backend.dto.UpcomingEventDto;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,16 +14,29 @@ import com.example.backend.dto.EventCalendarSearchCondition;
 import com.example.backend.dto.EventListResponse;
 import com.example.backend.dto.EventSearchCondition;
 import com.example.backend.dto.FlashEventListResponse;
+import com.example.backend.repository.support.ActivityCursor;
+import com.example.backend.repository.support.KeysetCursor;
 
 public interface EventQueryRepository {
 	Page<EventListResponse> findEventList(EventSearchCondition condition, Pageable pageable);
 
+	List<EventListResponse> findEventListByCursor(EventSearchCondition condition, KeysetCursor cursor, int limit);
+
 	Page<FlashEventListResponse> findFlashEventList(EventSearchCondition condition, Pageable pageable);
 
+	// 번개 피드 적재용: 모집 중이고 아직 시작 전인 번개 이벤트 전체
+	List<FlashEventListResponse> findUpcomingFlashEvents(LocalDateTime now);
+
+	// 번개 피드 갱신용: 번개 이벤트가 아니면 empty
+	Optional<FlashEventListResponse> findFlashEvent(Long eventId);
+
 	List<EventCalendarResponse> findEventListForCalendar(EventCalendarSearchCondition condition);
 
 	List<MyEventItemDto> findMyEvents(Long userId, Long cursor, int size);
 
+	// 활동 타임라인용 (참여 시각 desc, 이벤트 id desc)
+	List<MyEventItemDto> findMyEventTimeline(Long userId, ActivityCursor cursor, int limit);
+
 	long countActiveEvents(Long townId);
 
 	List<UpcomingEventDto> findUpcomingEvents(Long townId, int limit);
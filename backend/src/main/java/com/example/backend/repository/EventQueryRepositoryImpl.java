@@ -2,10 +2,10 @@ package com.example.backend.repository;
 
 import com.example.backend.dto.MyEventItemDto;
 import com.example.backend.dto.UpcomingEventDto;
-import com.querydsl.jpa.JPAExpressions;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -19,10 +19,17 @@ import com.example.backend.dto.EventCalendarSearchCondition;
 import com.example.backend.dto.EventListResponse;
 import com.example.backend.dto.EventSearchCondition;
 import com.example.backend.dto.FlashEventListResponse;
+import com.example.backend.enums.ActivityType;
 import com.example.backend.enums.EventCategory;
 import com.example.backend.enums.EventStatus;
+import com.example.backend.repository.support.ActivityCursor;
+import com.example.backend.repository.support.FullTextSearch;
+import com.example.backend.repository.support.KeysetCursor;
+import com.example.backend.repository.support.KeysetSort;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -31,6 +38,11 @@ import lombok.RequiredArgsConstructor;
 public class EventQueryRepositoryImpl implements EventQueryRepository {
 
 	private final JPAQueryFactory queryFactory;
+	private final FullTextSearch fullTextSearch;
+
+	// 최신순 keyset 정렬 (createdAt desc, id desc)
+	private static final KeysetSort<LocalDateTime> LATEST =
+		KeysetSort.byDateTime(QEvent.event.createdAt, QEvent.event.id);
 
 	@Override
 	public Page<EventListResponse> findEventList(
@@ -38,44 +50,16 @@ public class EventQueryRepositoryImpl implements EventQueryRepository {
 		Pageable pageable) {
 
 		QEvent event = QEvent.event;
-		QEventMember member = QEventMember.eventMember;
 		QLocation location = QLocation.location;
 
-		List<EventListResponse> content = queryFactory
-			.select(Projections.constructor(
-				EventListResponse.class,
-				event.id,
-				event.title,
-				event.description,
-				event.category,
-				event.status,
-				event.eventPlace,
-				event.startAt,
-				event.createdAt,
-				location.province,
-				location.city,
-				event.capacity,
-				member.id.countDistinct()
-			))
-			.from(event)
-			.join(event.location, location)
-			.leftJoin(event.members, member)
-			.where(
-				event.category.ne(EventCategory.FLASH),
-				categoryEq(condition.getCategory()),
-				statusEq(condition.getStatus()),
-				keywordContains(condition.getKeyword()),
-				provinceEq(condition.getProvince()),
-				cityEq(condition.getCity())
-			)
-			.groupBy(event.id, location.id)
+		List<EventListResponse> content = eventListQuery(condition)
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize())
-			.orderBy(event.createdAt.desc())
+			.orderBy(relevanceFirst(condition.getKeyword(), event.createdAt.desc()))
 			.fetch();
 
 		Long total = queryFactory
-			.select(event.id.countDistinct())
+			.select(event.count())
 			.from(event)
 			.join(event.location, location)
 			.where(
@@ -92,21 +76,30 @@ public class EventQueryRepositoryImpl implements EventQueryRepository {
 	}
 
 	@Override
-	public Page<FlashEventListResponse> findFlashEventList(
+	public List<EventListResponse> findEventListByCursor(
 		EventSearchCondition condition,
-		Pageable pageable) {
+		KeysetCursor cursor,
+		int limit) {
 
+		return eventListQuery(condition)
+			.where(LATEST.after(cursor))
+			.orderBy(LATEST.orderBy())
+			.limit(limit)
+			.fetch();
+	}
+
+	// offset / keyset 목록 조회 공통 (select + 검색 조건)
+	private JPAQuery<EventListResponse> eventListQuery(EventSearchCondition condition) {
 		QEvent event = QEvent.event;
-		QEventMember member = QEventMember.eventMember;
 		QLocation location = QLocation.location;
-		LocalDateTime now = LocalDateTime.now();
 
-		List<FlashEventListResponse> content = queryFactory
+		return queryFactory
 			.select(Projections.constructor(
-				FlashEventListResponse.class,
+				EventListResponse.class,
 				event.id,
 				event.title,
 				event.description,
+				event.category,
 				event.status,
 				event.eventPlace,
 				event.startAt,
@@ -114,11 +107,30 @@ public class EventQueryRepositoryImpl implements EventQueryRepository {
 				location.province,
 				location.city,
 				event.capacity,
-				member.id.countDistinct()
+				event.memberCount.longValue()
 			))
 			.from(event)
 			.join(event.location, location)
-			.leftJoin(event.members, member)
+			.where(
+				event.category.ne(EventCategory.FLASH),
+				categoryEq(condition.getCategory()),
+				statusEq(condition.getStatus()),
+				keywordContains(condition.getKeyword()),
+				provinceEq(condition.getProvince()),
+				cityEq(condition.getCity())
+			);
+	}
+
+	@Override
+	public Page<FlashEventListResponse> findFlashEventList(
+		EventSearchCondition condition,
+		Pageable pageable) {
+
+		QEvent event = QEvent.event;
+		QLocation location = QLocation.location;
+		LocalDateTime now = LocalDateTime.now();
+
+		List<FlashEventListResponse> content = flashEventQuery()
 			.where(
 				event.category.eq(EventCategory.FLASH),
 				event.status.eq(EventStatus.RECRUITING),
@@ -127,14 +139,13 @@ public class EventQueryRepositoryImpl implements EventQueryRepository {
 				cityEq(condition.getCity()),
 				event.startAt.after(now)
 			)
-			.groupBy(event.id, location.id)
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize())
 			.orderBy(event.startAt.asc())
 			.fetch();
 
 		Long total = queryFactory
-			.select(event.id.countDistinct())
+			.select(event.count())
 			.from(event)
 			.join(event.location, location)
 			.where(
@@ -150,6 +161,54 @@ public class EventQueryRepositoryImpl implements EventQueryRepository {
 		return new PageImpl<>(content, pageable, total != null ? total : 0);
 	}
 
+	@Override
+	public List<FlashEventListResponse> findUpcomingFlashEvents(LocalDateTime now) {
+		QEvent event = QEvent.event;
+
+		return flashEventQuery()
+			.where(
+				event.category.eq(EventCategory.FLASH),
+				event.status.eq(EventStatus.RECRUITING),
+				event.startAt.after(now)
+			)
+			.fetch();
+	}
+
+	@Override
+	public Optional<FlashEventListResponse> findFlashEvent(Long eventId) {
+		QEvent event = QEvent.event;
+
+		return Optional.ofNullable(flashEventQuery()
+			.where(
+				event.id.eq(eventId),
+				event.category.eq(EventCategory.FLASH)
+			)
+			.fetchOne());
+	}
+
+	private JPAQuery<FlashEventListResponse> flashEventQuery() {
+		QEvent event = QEvent.event;
+		QLocation location = QLocation.location;
+
+		return queryFactory
+			.select(Projections.constructor(
+				FlashEventListResponse.class,
+				event.id,
+				event.title,
+				event.description,
+				event.status,
+				event.eventPlace,
+				event.startAt,
+				event.createdAt,
+				location.province,
+				location.city,
+				event.capacity,
+				event.memberCount.longValue()
+			))
+			.from(event)
+			.join(event.location, location);
+	}
+
 	@Override
 	public List<EventCalendarResponse> findEventListForCalendar(
 		EventCalendarSearchCondition condition
@@ -196,10 +255,25 @@ public class EventQueryRepositoryImpl implements EventQueryRepository {
 			return null;
 		}
 
+		if (fullTextSearch.supports(keyword)) {
+			return fullTextSearch.matches(QEvent.event.title, QEvent.event.description, keyword);
+		}
+
 		return QEvent.event.title.containsIgnoreCase(keyword)
 			.or(QEvent.event.description.containsIgnoreCase(keyword));
 	}
 
+	// FULLTEXT 검색이면 관련도 순 우선 (offset 목록 전용)
+	private OrderSpecifier<?>[] relevanceFirst(String keyword, OrderSpecifier<?> defaultOrder) {
+		if (keyword == null || keyword.isBlank() || !fullTextSearch.supports(keyword)) {
+			return new OrderSpecifier<?>[] {defaultOrder};
+		}
+		return new OrderSpecifier<?>[] {
+			fullTextSearch.relevance(QEvent.event.title, QEvent.event.description, keyword).desc(),
+			defaultOrder
+		};
+	}
+
 	private BooleanExpression provinceEq(String province) {
 		return (province == null || province.isBlank())
 			? null
@@ -217,40 +291,55 @@ public class EventQueryRepositoryImpl implements EventQueryRepository {
 	public List<MyEventItemDto> findMyEvents(
 			Long userId,
 			Long cursor,
-			int size
+			int sizePlusOne
 	) {
 		QEvent e = QEvent.event;
 		QEventMember em = QEventMember.eventMember;
-		QEventMember em2 = new QEventMember("em2");
 
+		// 호출 쪽에서 이미 size + 1 로 넘긴다
+		return myEventQuery(e, em)
+				.where(
+						em.user.id.eq(userId),
+						cursorCondition(cursor, e)
+				)
+				.orderBy(e.id.desc())
+				.limit(sizePlusOne)
+				.fetch();
+	}
+
+	@Override
+	public List<MyEventItemDto> findMyEventTimeline(Long userId, ActivityCursor cursor, int limit) {
+		QEvent e = QEvent.event;
+		QEventMember em = QEventMember.eventMember;
+
+		return myEventQuery(e, em)
+				.where(
+						em.user.id.eq(userId),
+						ActivityCursor.after(cursor, ActivityType.EVENT, em.createdAt, e.id)
+				)
+				.orderBy(em.createdAt.desc(), e.id.desc())
+				.limit(limit)
+				.fetch();
+	}
+
+	private JPAQuery<MyEventItemDto> myEventQuery(QEvent e, QEventMember em) {
 		return queryFactory
 				.select(Projections.constructor(
 						MyEventItemDto.class,
 						e.id,
 						e.title,
 						e.status,
-						JPAExpressions
-								.select(em2.count())
-								.from(em2)
-								.where(em2.event.eq(e)),
+						e.memberCount.longValue(),
 						e.capacity,
 						em.createdAt
 				))
 				.from(em)
-				.join(em.event, e)
-				.where(
-						em.user.id.eq(userId),
-						cursorCondition(cursor, e)
-				)
-				.orderBy(e.id.desc())
-				.limit(size + 1)
-				.fetch();
+				.join(em.event, e);
 	}
 
 	@Override
 	public List<UpcomingEventDto> findUpcomingEvents(Long townId, int limit) {
 		QEvent e = QEvent.event;
-		QEventMember em = QEventMember.eventMember;
 
 		return queryFactory
 				.select(Projections.constructor(
@@ -258,17 +347,15 @@ public class EventQueryRepositoryImpl implements EventQueryRepository {
 						e.id,
 						e.title,
 						e.startAt,
-						em.count().intValue(),
+						e.memberCount,
 						e.capacity
 				))
 				.from(e)
-				.leftJoin(em).on(em.event.eq(e))
 				.where(
 						e.location.id.eq(townId),
 						e.status.eq(EventStatus.RECRUITING),
 						e.startAt.after(LocalDateTime.now())
 				)
-				.groupBy(e.id)
 				.orderBy(e.startAt.asc())
 				.limit(limit)
 				.fetch();
@@ -1,14 +1,100 @@
 package com.example.backend.repository;
 
 import com.example.backend.domain.Meeting;
-import com.example.backend.domain.User;
+import com.example.backend.dto.EventLifecycleRow;
+import com.example.backend.enums.EventStatus;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.backend.domain.Event;
 
 public interface EventRepository extends JpaRepository<Event, Long>, EventQueryRepository {
 
-    List<Event> findEventByHost(User user);
+    // 상세 조회: 호스트, 지역, 멤버와 멤버 유저까지 한 번에
+    @Query(" select distinct e from Event e "
+        + "join fetch e.host "
+        + "join fetch e.location "
+        + "left join fetch e.members em "
+        + "left join fetch em.user "
+        + "where e.id = :eventId ")
+    Optional<Event> findDetailWithMembersById(@Param("eventId") Long eventId);
 
-}
\ No newline at end of file
+    /**
+     * 좌석 예약: 정원이 남아 있을 때만 memberCount + 1 (조건부 단일 update)
+     * 0 을 반환하면 정원 초과, 같은 이벤트에 대한 동시 승인은 행 잠금으로 직렬화된다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Event e set e.memberCount = e.memberCount + 1 "
+        + "where e.id = :eventId and e.memberCount < e.capacity")
+    int reserveSeat(@Param("eventId") Long eventId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Event e set e.memberCount = e.memberCount - 1 where e.id = :eventId and e.memberCount > 0")
+    int decreaseMemberCount(@Param("eventId") Long eventId);
+
+    // 모집 중인데 이미 시작한 이벤트 ((status, start_at) 인덱스 범위 조회)
+    @Query("select new com.example.backend.dto.EventLifecycleRow(e.id, e.location.id, e.startAt) "
+        + "from Event e where e.status = :status and e.startAt <= :now order by e.startAt")
+    List<EventLifecycleRow> findStartedByStatus(
+        @Param("status") EventStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 모집 중인데 정원이 찬 이벤트
+    @Query("select new com.example.backend.dto.EventLifecycleRow(e.id, e.location.id, e.startAt) "
+        + "from Event e where e.status = :status and e.memberCount >= e.capacity order by e.id")
+    List<EventLifecycleRow> findFullByStatus(@Param("status") EventStatus status, Pageable pageable);
+
+    // 모집 중인 것만 마감 (다른 노드/요청이 먼저 바꿨으면 건너뜀)
+    @Modifying(flushAutomatically = true)
+    @Query("update Event e set e.status = com.example.backend.enums.EventStatus.CLOSED "
+        + "where e.id in :ids and e.status = com.example.backend.enums.EventStatus.RECRUITING")
+    int closeRecruiting(@Param("ids") List<Long> ids);
+
+    // 정원 마감된 이벤트에 자리가 생기면 다시 모집 (시작 전인 경우만)
+    @Modifying(flushAutomatically = true)
+    @Query("update Event e set e.status = com.example.backend.enums.EventStatus.RECRUITING "
+        + "where e.id = :eventId and e.status = com.example.backend.enums.EventStatus.CLOSED "
+        + "and e.memberCount < e.capacity and e.startAt > :now")
+    int reopenIfSeatAvailable(@Param("eventId") Long eventId, @Param("now") LocalDateTime now);
+
+    @Query("select coalesce(max(e.id), 0) from Event e")
+    long findMaxId();
+
+    // 탈퇴 정리: 남아 있는 주최 이벤트 (id 순)
+    @Query("select new com.example.backend.dto.EventLifecycleRow(e.id, e.location.id, e.startAt) "
+        + "from Event e where e.host.id = :hostId order by e.id")
+    List<EventLifecycleRow> findLifecycleRowsByHostId(@Param("hostId") Long hostId, Pageable pageable);
+
+    // 탈퇴 정리: 변경 이벤트 발행용
+    @Query("select new com.example.backend.dto.EventLifecycleRow(e.id, e.location.id, e.startAt) "
+        + "from Event e where e.id in :eventIds")
+    List<EventLifecycleRow> findLifecycleRowsByIds(@Param("eventIds") List<Long> eventIds);
+
+    // 탈퇴 정리: 멤버/신청을 먼저 지운 이벤트만 삭제 (엔티티를 읽지 않는 bulk delete)
+    @Modifying(flushAutomatically = true)
+    @Query("delete from Event e where e.id = :eventId")
+    int purgeById(@Param("eventId") Long eventId);
+
+    // 탈퇴 정리: 멤버 chunk 삭제 전 인원 차감 (한 사용자는 이벤트당 한 번만 포함)
+    @Modifying(flushAutomatically = true)
+    @Query("update Event e set e.memberCount = e.memberCount - 1 "
+        + "where e.memberCount > 0 and e.id in :eventIds")
+    int decreaseMemberCountByIds(@Param("eventIds") List<Long> eventIds);
+
+    // memberCount 보정 (id 구간 단위), 실제 인원과 다른 행만 갱신
+    @Transactional
+    @Modifying
+    @Query(value = "update events e "
+        + "set e.member_count = (select count(*) from event_members em where em.event_id = e.id) "
+        + "where e.id between :fromId and :toId "
+        + "and e.member_count <> (select count(*) from event_members em2 where em2.event_id = e.id)",
+        nativeQuery = true)
+    int reconcileMemberCount(@Param("fromId") long fromId, @Param("toId") long toId);
+
+}
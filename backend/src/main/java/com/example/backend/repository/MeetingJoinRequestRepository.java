@@ -6,18 +6,26 @@ import com.example.backend.domain.User;
 import com.example.backend.enums.JoinRequestStatus;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MeetingJoinRequestRepository extends JpaRepository<MeetingJoinRequest, Long> {
 
     boolean existsByMeetingAndUser(Meeting meeting, User user);
 
-    List<MeetingJoinRequest> findByMeetingAndStatus(Meeting meeting, JoinRequestStatus status);
+    // 신청 목록 (신청자 닉네임 표시용 user 를 함께 로딩)
+    @Query("select r from MeetingJoinRequest r join fetch r.user where r.meeting = :meeting and r.status = :status")
+    List<MeetingJoinRequest> findByMeetingAndStatus(@Param("meeting") Meeting meeting, @Param("status") JoinRequestStatus status);
 
     Optional<MeetingJoinRequest> findByIdAndMeeting(Long id, Meeting meeting);
 
-    void deleteByUser(User user);
+    // 탈퇴 정리 chunk
+    @Query("select r.id from MeetingJoinRequest r where r.meeting.id = :meetingId order by r.id")
+    List<Long> findIdsByMeetingId(@Param("meetingId") Long meetingId, Pageable pageable);
 
-    void deleteByMeeting(Meeting meeting);
+    @Query("select r.id from MeetingJoinRequest r where r.user.id = :userId order by r.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
 
 }
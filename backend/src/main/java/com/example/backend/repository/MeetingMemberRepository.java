@@ -1,16 +1,21 @@
 package com.example.backend.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.backend.domain.Meeting;
 import com.example.backend.domain.MeetingMember;
 import com.example.backend.domain.User;
+import com.example.backend.dto.PurgeRow;
 import java.util.List;
 import java.util.Optional;
 import com.example.backend.enums.ParticipantRole;
 
 public interface MeetingMemberRepository extends JpaRepository<MeetingMember, Long> {
-	boolean existsByMeetingIdAndUserIdAndRole(
+	// 주최자 검증: 탈퇴한 계정은 기존 토큰이 남아 있어도 관리 권한 없음
+	boolean existsByMeetingIdAndUserIdAndRoleAndUserWithdrawnAtIsNull(
 		Long meetingId,
 		Long userId,
 		ParticipantRole role
@@ -20,12 +25,22 @@ public interface MeetingMemberRepository extends JpaRepository<MeetingMember, Lo
 
     long countByMeeting(Meeting meeting);
 
-    List<MeetingMember> findAllByMeeting(Meeting meeting);
+    // 관리 화면 멤버 목록 (닉네임 표시용 user 를 함께 로딩)
+    @Query("select mm from MeetingMember mm join fetch mm.user where mm.meeting = :meeting")
+    List<MeetingMember> findAllByMeeting(@Param("meeting") Meeting meeting);
 
     Optional<MeetingMember> findByIdAndMeeting(Long id, Meeting meeting);
-	void deleteByUser(User user);
-	void deleteByMeeting(Meeting meeting);
 
 	long countByUserId(long userId);
 
+	// 탈퇴 정리: 모임의 멤버 chunk (refId = 사용자 id)
+	@Query("select new com.example.backend.dto.PurgeRow(mm.id, mm.user.id) "
+		+ "from MeetingMember mm where mm.meeting.id = :meetingId order by mm.id")
+	List<PurgeRow> findPurgeRowsByMeetingId(@Param("meetingId") Long meetingId, Pageable pageable);
+
+	// 탈퇴 정리: 사용자가 참여 중인 모임 chunk (refId = 모임 id)
+	@Query("select new com.example.backend.dto.PurgeRow(mm.id, mm.meeting.id) "
+		+ "from MeetingMember mm where mm.user.id = :userId order by mm.id")
+	List<PurgeRow> findPurgeRowsByUserId(@Param("userId") Long userId, Pageable pageable);
+
 }
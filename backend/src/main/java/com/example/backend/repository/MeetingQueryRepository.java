@@ -1,19 +1,34 @@
 package com.example.backend.repository;
 
 import com.example.backend.dto.MeetingListResponse;
+import com.example.backend.dto.MeetingRankRow;
 import com.example.backend.dto.MeetingSearchCondition;
 import com.example.backend.dto.MyMeetingItemDto;
 import com.example.backend.dto.PopularMeetingDto;
+import com.example.backend.repository.support.ActivityCursor;
+import com.example.backend.repository.support.KeysetCursor;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface MeetingQueryRepository {
 
     Page<MeetingListResponse> findMeetingList( MeetingSearchCondition condition, Pageable pageable);
+
+    List<MeetingListResponse> findMeetingListByCursor(MeetingSearchCondition condition, KeysetCursor cursor, int limit);
+
     List<MyMeetingItemDto> findMyMeetings(Long userId, Long cursor, int size);
 
+    // 활동 타임라인용 (참여 시각 desc, 모임 id desc)
+    List<MyMeetingItemDto> findMyMeetingTimeline(Long userId, ActivityCursor cursor, int limit);
+
     long countActiveMeetings(Long townId);
 
     List<PopularMeetingDto> findPopularMeetings(Long townId, int limit);
+
+    // 모집 중인 모임 순위 행 (townId 가 null 이면 전체 동네)
+    List<MeetingRankRow> findRecruitingRankRows(Long townId);
+
+    Optional<MeetingRankRow> findRankRow(Long meetingId);
 }
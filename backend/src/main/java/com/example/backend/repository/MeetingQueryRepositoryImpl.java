@@ -4,16 +4,25 @@ import com.example.backend.domain.QLocation;
 import com.example.backend.domain.QMeeting;
 import com.example.backend.domain.QMeetingMember;
 import com.example.backend.dto.MeetingListResponse;
+import com.example.backend.dto.MeetingRankRow;
 import com.example.backend.dto.MeetingSearchCondition;
 import com.example.backend.dto.MyMeetingItemDto;
 import com.example.backend.dto.PopularMeetingDto;
+import com.example.backend.enums.ActivityType;
 import com.example.backend.enums.MeetingCategory;
 import com.example.backend.enums.MeetingStatus;
+import com.example.backend.repository.support.ActivityCursor;
+import com.example.backend.repository.support.FullTextSearch;
+import com.example.backend.repository.support.KeysetCursor;
+import com.example.backend.repository.support.KeysetSort;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -23,6 +32,11 @@ import org.springframework.data.domain.Pageable;
 public class MeetingQueryRepositoryImpl implements MeetingQueryRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final FullTextSearch fullTextSearch;
+
+    // 최신순 keyset 정렬 (createdAt desc, id desc)
+    private static final KeysetSort<LocalDateTime> LATEST =
+            KeysetSort.byDateTime(QMeeting.meeting.createdAt, QMeeting.meeting.id);
 
     @Override
     public Page<MeetingListResponse> findMeetingList(
@@ -30,25 +44,18 @@ public class MeetingQueryRepositoryImpl implements MeetingQueryRepository {
             Pageable pageable ) {
 
         QMeeting meeting = QMeeting.meeting;
-        QMeetingMember member = QMeetingMember.meetingMember;
         QLocation location = QLocation.location;
 
-        List<MeetingListResponse> content = queryFactory
-                .select(Projections.constructor(
-                        MeetingListResponse.class,
-                        meeting.id,
-                        meeting.title,
-                        meeting.description,
-                        meeting.category,
-                        meeting.status,
-                        location.province,
-                        location.city,
-                        meeting.capacity,
-                        member.countDistinct()
-                ))
+        List<MeetingListResponse> content = meetingListQuery(condition)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(relevanceFirst(condition.getKeyword(), meeting.createdAt.desc()))
+                .fetch();
+
+        Long total = queryFactory
+                .select(meeting.count())
                 .from(meeting)
                 .join(meeting.location, location)
-                .leftJoin(meeting.members, member)
                 .where(
                         categoryEq(condition.getCategory()),
                         statusEq(condition.getStatus()),
@@ -57,14 +64,43 @@ public class MeetingQueryRepositoryImpl implements MeetingQueryRepository {
                         cityEq(condition.getCity())
                         // townEq(condition.getTown())
                 )
-                .groupBy(meeting.id, location.id)
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(meeting.createdAt.desc())
+                .fetchOne();
+
+        return new PageImpl<>(content, pageable, total != null ? total : 0);
+    }
+
+    @Override
+    public List<MeetingListResponse> findMeetingListByCursor(
+            MeetingSearchCondition condition,
+            KeysetCursor cursor,
+            int limit) {
+
+        return meetingListQuery(condition)
+                .where(LATEST.after(cursor))
+                .orderBy(LATEST.orderBy())
+                .limit(limit)
                 .fetch();
+    }
 
-        Long total = queryFactory
-                .select(meeting.count())
+    // offset / keyset 목록 조회 공통 (select + 검색 조건)
+    private JPAQuery<MeetingListResponse> meetingListQuery(MeetingSearchCondition condition) {
+        QMeeting meeting = QMeeting.meeting;
+        QLocation location = QLocation.location;
+
+        return queryFactory
+                .select(Projections.constructor(
+                        MeetingListResponse.class,
+                        meeting.id,
+                        meeting.title,
+                        meeting.description,
+                        meeting.category,
+                        meeting.status,
+                        location.province,
+                        location.city,
+                        meeting.capacity,
+                        meeting.memberCount.longValue(),
+                        meeting.createdAt
+                ))
                 .from(meeting)
                 .join(meeting.location, location)
                 .where(
@@ -74,10 +110,7 @@ public class MeetingQueryRepositoryImpl implements MeetingQueryRepository {
                         provinceEq(condition.getProvince()),
                         cityEq(condition.getCity())
                         // townEq(condition.getTown())
-                )
-                .fetchOne();
-
-        return new PageImpl<>(content, pageable, total != null ? total : 0);
+                );
     }
 
     private BooleanExpression categoryEq(MeetingCategory category) {
@@ -93,10 +126,25 @@ public class MeetingQueryRepositoryImpl implements MeetingQueryRepository {
             return null;
         }
 
+        if (fullTextSearch.supports(keyword)) {
+            return fullTextSearch.matches(QMeeting.meeting.title, QMeeting.meeting.description, keyword);
+        }
+
         return QMeeting.meeting.title.containsIgnoreCase(keyword)
                 .or(QMeeting.meeting.description.containsIgnoreCase(keyword));
     }
 
+    // FULLTEXT 검색이면 관련도 순 우선 (offset 목록 전용)
+    private OrderSpecifier<?>[] relevanceFirst(String keyword, OrderSpecifier<?> defaultOrder) {
+        if (keyword == null || keyword.isBlank() || !fullTextSearch.supports(keyword)) {
+            return new OrderSpecifier<?>[] {defaultOrder};
+        }
+        return new OrderSpecifier<?>[] {
+                fullTextSearch.relevance(QMeeting.meeting.title, QMeeting.meeting.description, keyword).desc(),
+                defaultOrder
+        };
+    }
+
     private BooleanExpression provinceEq(String province) {
         return (province == null || province.isBlank())
                 ? null
@@ -119,41 +167,55 @@ public class MeetingQueryRepositoryImpl implements MeetingQueryRepository {
     public List<MyMeetingItemDto> findMyMeetings(
             Long userId,
             Long cursor,
-            int size) {
+            int sizePlusOne) {
+        QMeeting m = QMeeting.meeting;
+        QMeetingMember mm = QMeetingMember.meetingMember;
+
+        // 호출 쪽에서 이미 size + 1 로 넘긴다
+        return myMeetingQuery(m, mm)
+                .where(
+                        mm.user.id.eq(userId),
+                        cursorCondition(cursor, m)
+                )
+                .orderBy(m.id.desc())
+                .limit(sizePlusOne)
+                .fetch();
+    }
+
+    @Override
+    public List<MyMeetingItemDto> findMyMeetingTimeline(Long userId, ActivityCursor cursor, int limit) {
         QMeeting m = QMeeting.meeting;
         QMeetingMember mm = QMeetingMember.meetingMember;
-        QMeetingMember mm2 = new QMeetingMember("mm2");
 
+        return myMeetingQuery(m, mm)
+                .where(
+                        mm.user.id.eq(userId),
+                        ActivityCursor.after(cursor, ActivityType.MEETING, mm.createdAt, m.id)
+                )
+                .orderBy(mm.createdAt.desc(), m.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private JPAQuery<MyMeetingItemDto> myMeetingQuery(QMeeting m, QMeetingMember mm) {
         return queryFactory
                 .select(Projections.constructor(
                         MyMeetingItemDto.class,
                         m.id,
                         m.title,
                         m.status,
-                        JPAExpressions
-                                .select(mm2.count())
-                                .from(mm2)
-                                .where(mm2.meeting.eq(m)),
+                        m.memberCount.longValue(),
                         m.capacity,
                         mm.createdAt
                 ))
                 .from(mm)
-                .join(mm.meeting, m)
-                .where(
-                        mm.user.id.eq(userId),
-                        cursorCondition(cursor, m)
-                )
-                .orderBy(m.id.desc())
-                .limit(size + 1)
-                .fetch();
+                .join(mm.meeting, m);
     }
 
 
     @Override
     public List<PopularMeetingDto> findPopularMeetings(Long townId, int limit) {
         QMeeting m = QMeeting.meeting;
-        QMeetingMember mm = QMeetingMember.meetingMember;
-
 
         return queryFactory
                 .select(Projections.constructor(
@@ -161,21 +223,57 @@ public class MeetingQueryRepositoryImpl implements MeetingQueryRepository {
                         m.id,
                         m.title,
                         m.category.stringValue(),
-                        mm.count().intValue(),
+                        m.memberCount,
                         m.capacity
                 ))
                 .from(m)
-                .leftJoin(mm).on(mm.meeting.eq(m))
                 .where(
                         m.location.id.eq(townId),
                         m.status.eq(MeetingStatus.RECRUITING)
                 )
-                .groupBy(m.id)
-                .orderBy(mm.count().desc())
+                // PopularMeetingLeaderboard 와 같은 순서 (인원 desc, 최신순, id desc)
+                .orderBy(m.memberCount.desc(), m.createdAt.desc(), m.id.desc())
                 .limit(limit)
                 .fetch();
     }
 
+    @Override
+    public List<MeetingRankRow> findRecruitingRankRows(Long townId) {
+        QMeeting m = QMeeting.meeting;
+
+        return rankRowQuery()
+                .where(
+                        m.status.eq(MeetingStatus.RECRUITING),
+                        townId != null ? m.location.id.eq(townId) : null
+                )
+                .fetch();
+    }
+
+    @Override
+    public Optional<MeetingRankRow> findRankRow(Long meetingId) {
+        return Optional.ofNullable(rankRowQuery()
+                .where(QMeeting.meeting.id.eq(meetingId))
+                .fetchOne());
+    }
+
+    private JPAQuery<MeetingRankRow> rankRowQuery() {
+        QMeeting m = QMeeting.meeting;
+
+        return queryFactory
+                .select(Projections.constructor(
+                        MeetingRankRow.class,
+                        m.id,
+                        m.location.id,
+                        m.title,
+                        m.category,
+                        m.status,
+                        m.memberCount,
+                        m.capacity,
+                        m.createdAt
+                ))
+                .from(m);
+    }
+
     @Override
     public long countActiveMeetings(Long townId) {
         QMeeting m = QMeeting.meeting;
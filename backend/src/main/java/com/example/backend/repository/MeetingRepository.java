@@ -1,14 +1,16 @@
 package com.example.backend.repository;
 
-import com.example.backend.domain.User;
 import com.example.backend.dto.MyMeetingItemDto;
+import com.example.backend.dto.PurgeRow;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.backend.domain.Meeting;
 
@@ -24,8 +26,58 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long>, Meeting
 
 	int countByHostId(Long userId);
 
-	List<Meeting> findMeetingByHost(User user);
+	/**
+	 * 좌석 예약: 정원이 남아 있을 때만 memberCount + 1 (조건부 단일 update)
+	 * 0 을 반환하면 정원 초과, 같은 모임에 대한 동시 승인은 행 잠금으로 직렬화된다.
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("update Meeting m set m.memberCount = m.memberCount + 1 "
+		+ "where m.id = :meetingId and m.memberCount < m.capacity")
+	int reserveSeat(@Param("meetingId") Long meetingId);
 
-	void deleteByHost(User user);
+	// 마지막 좌석이 찼으면 모집 마감
+	@Modifying
+	@Query("update Meeting m set m.status = com.example.backend.enums.MeetingStatus.ACTIVE "
+		+ "where m.id = :meetingId "
+		+ "and m.status = com.example.backend.enums.MeetingStatus.RECRUITING "
+		+ "and m.memberCount >= m.capacity")
+	int closeRecruitingIfFull(@Param("meetingId") Long meetingId);
+
+	@Modifying(flushAutomatically = true)
+	@Query("update Meeting m set m.memberCount = m.memberCount - 1 where m.id = :meetingId and m.memberCount > 0")
+	int decreaseMemberCount(@Param("meetingId") Long meetingId);
+
+	@Query("select coalesce(max(m.id), 0) from Meeting m")
+	long findMaxId();
+
+	// 탈퇴 정리: 남아 있는 주최 모임 (id 순, refId = 동네 id)
+	@Query("select new com.example.backend.dto.PurgeRow(m.id, m.location.id) "
+		+ "from Meeting m where m.host.id = :hostId order by m.id")
+	List<PurgeRow> findPurgeRowsByHostId(@Param("hostId") Long hostId, Pageable pageable);
+
+	// 탈퇴 정리: 변경 이벤트 발행용 (refId = 동네 id)
+	@Query("select new com.example.backend.dto.PurgeRow(m.id, m.location.id) from Meeting m where m.id in :meetingIds")
+	List<PurgeRow> findPurgeRowsByIds(@Param("meetingIds") List<Long> meetingIds);
+
+	// 탈퇴 정리: 멤버/신청을 먼저 지운 모임만 삭제 (엔티티를 읽지 않는 bulk delete)
+	@Modifying(flushAutomatically = true)
+	@Query("delete from Meeting m where m.id = :meetingId")
+	int purgeById(@Param("meetingId") Long meetingId);
+
+	// 탈퇴 정리: 멤버 chunk 삭제 전 인원 차감 (한 사용자는 모임당 한 번만 포함)
+	@Modifying(flushAutomatically = true)
+	@Query("update Meeting m set m.memberCount = m.memberCount - 1 "
+		+ "where m.memberCount > 0 and m.id in :meetingIds")
+	int decreaseMemberCountByIds(@Param("meetingIds") List<Long> meetingIds);
+
+	// memberCount 보정 (id 구간 단위), 실제 인원과 다른 행만 갱신
+	@Transactional
+	@Modifying
+	@Query(value = "update meetings m "
+		+ "set m.member_count = (select count(*) from meeting_members mm where mm.meeting_id = m.id) "
+		+ "where m.id between :fromId and :toId "
+		+ "and m.member_count <> (select count(*) from meeting_members mm2 where mm2.meeting_id = m.id)",
+		nativeQuery = true)
+	int reconcileMemberCount(@Param("fromId") long fromId, @Param("toId") long toId);
 
 }
@@ -4,6 +4,9 @@ import com.example.backend.domain.Question;
 import com.example.backend.dto.LatestQuestionDto;
 import com.example.backend.dto.MyQuestionItemDto;
 import com.example.backend.dto.QuestionSearchRequest;
+import com.example.backend.enums.QuestionSortType;
+import com.example.backend.repository.support.ActivityCursor;
+import com.example.backend.repository.support.KeysetCursor;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -11,8 +14,13 @@ import org.springframework.data.domain.Pageable;
 public interface QuestionQueryRepository {
     List<MyQuestionItemDto> findMyQuestions(Long userId, Long cursor, int sizePlusOne);
 
+    // 활동 타임라인용 (작성 시각 desc, 질문 id desc)
+    List<MyQuestionItemDto> findMyQuestionTimeline(Long userId, ActivityCursor cursor, int limit);
+
     Page<Question> search(QuestionSearchRequest request, Pageable pageable);
 
+    List<Question> searchByCursor(QuestionSearchRequest request, QuestionSortType sortType, KeysetCursor cursor, int limit);
+
     long countByTown(Long townId);
 
     List<LatestQuestionDto> findLatestQuestions(Long townId, int limit);
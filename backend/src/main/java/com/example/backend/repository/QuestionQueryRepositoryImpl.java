@@ -8,11 +8,20 @@ import com.example.backend.domain.Question;
 import com.example.backend.dto.LatestQuestionDto;
 import com.example.backend.dto.MyQuestionItemDto;
 import com.example.backend.dto.QuestionSearchRequest;
+import com.example.backend.enums.ActivityType;
 import com.example.backend.enums.QuestionCategory;
+import com.example.backend.enums.QuestionSortType;
+import com.example.backend.repository.support.ActivityCursor;
+import com.example.backend.repository.support.FullTextSearch;
+import com.example.backend.repository.support.KeysetCursor;
+import com.example.backend.repository.support.KeysetSort;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -25,11 +34,45 @@ import org.springframework.stereotype.Repository;
 public class QuestionQueryRepositoryImpl implements QuestionQueryRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final FullTextSearch fullTextSearch;
+
+    // keyset 정렬: 최신순 (createdAt, id) / 인기순 (viewCount, id) / 트렌딩 (trendingScore, id)
+    private static final KeysetSort<LocalDateTime> LATEST =
+            KeysetSort.byDateTime(QQuestion.question.createdAt, QQuestion.question.id);
+    private static final KeysetSort<Integer> POPULAR =
+            KeysetSort.byInt(QQuestion.question.viewCount, QQuestion.question.id);
+    private static final KeysetSort<Double> TRENDING =
+            KeysetSort.byDouble(QQuestion.question.trendingScore, QQuestion.question.id);
 
     @Override
     public List<MyQuestionItemDto> findMyQuestions(Long userId, Long cursor, int sizePlusOne) {
         QQuestion q = QQuestion.question;
 
+        return myQuestionQuery(q)
+                .where(
+                        q.user.id.eq(userId),
+                        ltCursor(cursor, q)
+                )
+                .orderBy(q.id.desc())
+                .limit(sizePlusOne)
+                .fetch();
+    }
+
+    @Override
+    public List<MyQuestionItemDto> findMyQuestionTimeline(Long userId, ActivityCursor cursor, int limit) {
+        QQuestion q = QQuestion.question;
+
+        return myQuestionQuery(q)
+                .where(
+                        q.user.id.eq(userId),
+                        ActivityCursor.after(cursor, ActivityType.QUESTION, q.createdAt, q.id)
+                )
+                .orderBy(q.createdAt.desc(), q.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private JPAQuery<MyQuestionItemDto> myQuestionQuery(QQuestion q) {
         // answerCount 서브쿼리(리스트는 안 가져옴)
         QAnswer a2 = new QAnswer("a2");
 
@@ -45,14 +88,7 @@ public class QuestionQueryRepositoryImpl implements QuestionQueryRepository {
                                 .from(a2)
                                 .where(a2.question.eq(q))
                 ))
-                .from(q)
-                .where(
-                        q.user.id.eq(userId),
-                        ltCursor(cursor, q)
-                )
-                .orderBy(q.id.desc())
-                .limit(sizePlusOne)
-                .fetch();
+                .from(q);
     }
     @Override
     public Page<Question> search(
@@ -62,13 +98,17 @@ public class QuestionQueryRepositoryImpl implements QuestionQueryRepository {
         QQuestion q = QQuestion.question;
         QLocation l = QLocation.location;
 
-        boolean isPopular =
-                pageable.getSort().isSorted()
-                        && pageable.getSort().iterator().next().getProperty().equals("viewCount");
+        String sortProperty = pageable.getSort().isSorted()
+                ? pageable.getSort().iterator().next().getProperty()
+                : null;
+        boolean isPopular = "viewCount".equals(sortProperty);
+        boolean isTrending = "trendingScore".equals(sortProperty);
 
+        // 목록 DTO 가 작성자 닉네임을 쓰므로 user 를 함께 가져온다 (N+1 방지)
         List<Question> content = queryFactory
                 .selectFrom(q)
                 .join(q.location, l)
+                .join(q.user, QUser.user).fetchJoin()
                 .where(
                         titleContains(request.getSearch()),
                         categoryEq(request.getCategory()),
@@ -77,8 +117,10 @@ public class QuestionQueryRepositoryImpl implements QuestionQueryRepository {
                 )
                 .orderBy(
                         isPopular
-                                ? q.viewCount.desc()   // 인기순 → 이것만
-                                : q.createdAt.desc()   // 최신순 → 이것만
+                                ? new OrderSpecifier<?>[] {q.viewCount.desc()}   // 인기순 → 이것만
+                                : isTrending
+                                ? TRENDING.orderBy()   // 트렌딩
+                                : relevanceFirst(request.getSearch(), q.createdAt.desc())   // 최신순 (검색 시 관련도 우선)
                 )
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
@@ -99,14 +141,62 @@ public class QuestionQueryRepositoryImpl implements QuestionQueryRepository {
         return new PageImpl<>(content, pageable, total == null ? 0 : total);
     }
 
+    @Override
+    public List<Question> searchByCursor(
+            QuestionSearchRequest request,
+            QuestionSortType sortType,
+            KeysetCursor cursor,
+            int limit
+    ) {
+        QQuestion q = QQuestion.question;
+        QLocation l = QLocation.location;
+
+        KeysetSort<?> keyset = switch (sortType) {
+            case POPULAR -> POPULAR;
+            case TRENDING -> TRENDING;
+            case LATEST -> LATEST;
+        };
+
+        // 응답 DTO 가 작성자 닉네임을 쓰므로 user 를 함께 가져온다 (N+1 방지)
+        return queryFactory
+                .selectFrom(q)
+                .join(q.location, l)
+                .join(q.user, QUser.user).fetchJoin()
+                .where(
+                        titleContains(request.getSearch()),
+                        categoryEq(request.getCategory()),
+                        provinceEq(request.getProvince()),
+                        cityEq(request.getCity()),
+                        keyset.after(cursor)
+                )
+                .orderBy(keyset.orderBy())
+                .limit(limit)
+                .fetch();
+    }
+
     /* ===== 조건 메서드 ===== */
 
     private BooleanExpression titleContains(String search) {
-        return (search == null || search.isBlank())
-                ? null
+        if (search == null || search.isBlank()) {
+            return null;
+        }
+
+        return fullTextSearch.supports(search)
+                ? fullTextSearch.matches(QQuestion.question.title, search)
                 : QQuestion.question.title.containsIgnoreCase(search);
     }
 
+    // FULLTEXT 검색이면 관련도 순 우선 (offset 목록 전용)
+    private OrderSpecifier<?>[] relevanceFirst(String search, OrderSpecifier<?> defaultOrder) {
+        if (search == null || search.isBlank() || !fullTextSearch.supports(search)) {
+            return new OrderSpecifier<?>[] {defaultOrder};
+        }
+        return new OrderSpecifier<?>[] {
+                fullTextSearch.relevance(QQuestion.question.title, search).desc(),
+                defaultOrder
+        };
+    }
+
     private BooleanExpression categoryEq(String category) {
         if (category == null || category.isBlank()) return null;
         try {
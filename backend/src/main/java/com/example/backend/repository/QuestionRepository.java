@@ -1,22 +1,25 @@
 package com.example.backend.repository;
 
 import com.example.backend.domain.Question;
-import com.example.backend.domain.User;
 import com.example.backend.enums.QuestionCategory;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface QuestionRepository extends JpaRepository<Question, Long>, QuestionQueryRepository {
     int countByUserId(Long userId);
-    void deleteByUser(User user);
 
-    @Modifying
-    @Query("update Question q set q.viewCount = q.viewCount + 1 where q.id = :id")
-    void increaseViewCount(@Param("id") Long id);
+    // 상세 (작성자 닉네임 표시용 user 를 함께 로딩)
+    @Query("select q from Question q join fetch q.user where q.id = :id")
+    Optional<Question> findWithUserById(@Param("id") Long id);
+
+    // 탈퇴 정리 chunk
+    @Query("select q.id from Question q where q.user.id = :userId order by q.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
 
     Page<Question> findByTitleContainingIgnoreCase(String title, Pageable pageable);
 
@@ -0,0 +1,30 @@
+package com.example.backend.repository;
+
+import com.example.backend.domain.SchedulerLock;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    // 만료된 잠금만 가져감, 1 이면 획득
+    @Transactional
+    @Modifying
+    @Query("update SchedulerLock l set l.lockedUntil = :until, l.lockedBy = :owner "
+            + "where l.name = :name and l.lockedUntil <= :now")
+    int tryAcquire(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now,
+            @Param("until") LocalDateTime until);
+
+    // 내가 가진 잠금만 해제
+    @Transactional
+    @Modifying
+    @Query("update SchedulerLock l set l.lockedUntil = :now "
+            + "where l.name = :name and l.lockedBy = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
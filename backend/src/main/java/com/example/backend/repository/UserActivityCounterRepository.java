@@ -0,0 +1,73 @@
+package com.example.backend.repository;
+
+import com.example.backend.domain.UserActivityCounter;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 활동 수 증감은 모두 조건부 단일 update (행이 없으면 0건, 보정 작업이 채운다)
+ */
+public interface UserActivityCounterRepository extends JpaRepository<UserActivityCounter, Long> {
+
+    @Modifying(flushAutomatically = true)
+    @Query("update UserActivityCounter c set c.meetingCount = c.meetingCount + :delta "
+            + "where c.userId = :userId and c.meetingCount + :delta >= 0")
+    int addMeetingCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update UserActivityCounter c set c.eventCount = c.eventCount + :delta "
+            + "where c.userId = :userId and c.eventCount + :delta >= 0")
+    int addEventCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update UserActivityCounter c set c.questionCount = c.questionCount + :delta "
+            + "where c.userId = :userId and c.questionCount + :delta >= 0")
+    int addQuestionCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    // 탈퇴 정리: 멤버 chunk 삭제 전 (한 모임/이벤트의 멤버라 사용자 중복 없음)
+    @Modifying(flushAutomatically = true)
+    @Query("update UserActivityCounter c set c.meetingCount = c.meetingCount - 1 "
+            + "where c.meetingCount > 0 and c.userId in :userIds")
+    int decreaseMeetingCountByUserIds(@Param("userIds") List<Long> userIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update UserActivityCounter c set c.eventCount = c.eventCount - 1 "
+            + "where c.eventCount > 0 and c.userId in :userIds")
+    int decreaseEventCountByUserIds(@Param("userIds") List<Long> userIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from UserActivityCounter c where c.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    // 행이 없는 사용자 채우기 (id 구간 단위)
+    @Transactional
+    @Modifying
+    @Query(value = "insert into user_activity_counters (user_id, meeting_count, event_count, question_count) "
+            + "select u.id, "
+            + "(select count(*) from meeting_members mm where mm.user_id = u.id), "
+            + "(select count(*) from event_members em where em.user_id = u.id), "
+            + "(select count(*) from questions q where q.user_id = u.id) "
+            + "from users u "
+            + "where u.id between :fromId and :toId "
+            + "and not exists (select 1 from user_activity_counters c where c.user_id = u.id)",
+            nativeQuery = true)
+    int backfill(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    // 실제 개수와 다른 행만 보정 (id 구간 단위)
+    @Transactional
+    @Modifying
+    @Query(value = "update user_activity_counters c set "
+            + "c.meeting_count = (select count(*) from meeting_members mm where mm.user_id = c.user_id), "
+            + "c.event_count = (select count(*) from event_members em where em.user_id = c.user_id), "
+            + "c.question_count = (select count(*) from questions q where q.user_id = c.user_id) "
+            + "where c.user_id between :fromId and :toId "
+            + "and (c.meeting_count <> (select count(*) from meeting_members mm2 where mm2.user_id = c.user_id) "
+            + "or c.event_count <> (select count(*) from event_members em2 where em2.user_id = c.user_id) "
+            + "or c.question_count <> (select count(*) from questions q2 where q2.user_id = c.user_id))",
+            nativeQuery = true)
+    int repair(@Param("fromId") long fromId, @Param("toId") long toId);
+}
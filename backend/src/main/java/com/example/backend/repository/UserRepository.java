@@ -2,7 +2,10 @@ package com.example.backend.repository;
 
 import com.example.backend.domain.Location;
 import com.example.backend.domain.User;
+import com.example.backend.dto.UserMyPageResponseDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -14,4 +17,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
     Long countUserByLocation(Location location);
+
+    // 마이페이지 헤더: users PK 조회 한 번 (지역, 활동 수는 join)
+    @Query("select new com.example.backend.dto.UserMyPageResponseDto("
+            + "u.id, u.email, u.nickname, concat(l.province, ' ', l.city), u.createdAt, "
+            + "coalesce(c.meetingCount, 0L), coalesce(c.eventCount, 0L), coalesce(c.questionCount, 0L)) "
+            + "from User u "
+            + "left join u.location l "
+            + "left join UserActivityCounter c on c.userId = u.id "
+            + "where u.id = :userId and u.withdrawnAt is null")
+    Optional<UserMyPageResponseDto> findMyPage(@Param("userId") Long userId);
+
+    @Query("select coalesce(max(u.id), 0) from User u")
+    long findMaxId();
 }
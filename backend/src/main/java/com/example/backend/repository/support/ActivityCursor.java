@@ -0,0 +1,94 @@
+package com.example.backend.repository.support;
+
+import com.example.backend.enums.ActivityType;
+import com.example.backend.global.exception.custom.CustomException;
+import com.example.backend.global.exception.custom.ErrorCode;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 마이페이지 활동 타임라인 커서 (마지막 항목의 시각 + 종류 + id)
+ * - 세 소스(모임/이벤트/질문)는 모두 (시각 desc, 종류 desc, id desc) 한 가지 순서로 합쳐지므로
+ *   마지막으로 내려준 항목 하나만 기억하면 소스마다 "그 다음" 조건을 만들 수 있다
+ * - KeysetCursor 와 같이 Base64(URL-safe) 문자열로만 노출
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ActivityCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime occurredAt;
+    private final ActivityType type;
+    private final Long id;
+
+    public static ActivityCursor of(LocalDateTime occurredAt, ActivityType type, Long id) {
+        return new ActivityCursor(occurredAt, type, id);
+    }
+
+    public String encode() {
+        String raw = occurredAt + SEPARATOR + type.name() + SEPARATOR + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 첫 페이지 요청이면 null
+    public static ActivityCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+
+            return new ActivityCursor(
+                    LocalDateTime.parse(parts[0]),
+                    ActivityType.valueOf(parts[1]),
+                    Long.parseLong(parts[2])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Base64 / 날짜 / 종류 / 숫자 형식 오류
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * type 소스에서 커서 다음 항목 조건 (첫 페이지면 null)
+     * - 커서보다 앞 순서 종류: 같은 시각까지 포함
+     * - 같은 종류: 같은 시각이면 id 가 작은 것
+     * - 커서보다 뒤 순서 종류: 더 이전 시각만
+     */
+    public static BooleanExpression after(
+            ActivityCursor cursor,
+            ActivityType type,
+            DateTimePath<LocalDateTime> time,
+            NumberPath<Long> id
+    ) {
+        if (cursor == null) {
+            return null;
+        }
+
+        int order = Integer.compare(type.ordinal(), cursor.type.ordinal());
+        if (order < 0) {
+            return time.loe(cursor.occurredAt);
+        }
+        if (order == 0) {
+            return time.lt(cursor.occurredAt)
+                    .or(time.eq(cursor.occurredAt).and(id.lt(cursor.id)));
+        }
+        return time.lt(cursor.occurredAt);
+    }
+}
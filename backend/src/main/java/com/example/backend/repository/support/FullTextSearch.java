@@ -0,0 +1,140 @@
+package com.example.backend.repository.support;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringPath;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 키워드 검색 (MySQL ngram FULLTEXT / LIKE fallback)
+ * - 인덱스는 db/migration/fulltext_ngram_indexes.sql 로 만든다 (애플리케이션은 DDL 을 실행하지 않음)
+ * - MySQL 이면 시작 시 인덱스가 모두 있는지 확인한 뒤 match ... against 로 검색
+ * - 그 외 DB(H2 테스트 등)나 인덱스가 없을 때, ngram 토큰 크기보다 짧은 단어가 섞인 키워드는 기존 LIKE 검색
+ */
+@Slf4j
+@Component
+public class FullTextSearch {
+
+    private static final String MYSQL = "MySQL";
+
+    // table, index name
+    private static final List<String[]> INDEXES = List.of(
+            new String[]{"events", "ft_events_title_description"},
+            new String[]{"meetings", "ft_meetings_title_description"},
+            new String[]{"questions", "ft_questions_title"}
+    );
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int ngramTokenSize;
+
+    private volatile boolean available = false;
+
+    public FullTextSearch(
+            DataSource dataSource,
+            JdbcTemplate jdbcTemplate,
+            @Value("${search.fulltext.enabled:true}") boolean enabled,
+            @Value("${search.fulltext.ngram-token-size:2}") int ngramTokenSize
+    ) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.ngramTokenSize = ngramTokenSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkIndexes() {
+        if (!enabled || !isMySql()) {
+            log.info("[FullTextSearch] FULLTEXT 미사용, LIKE 검색으로 동작");
+            return;
+        }
+
+        try {
+            for (String[] index : INDEXES) {
+                if (!indexExists(index[0], index[1])) {
+                    log.warn("[FullTextSearch] {} 에 {} 없음, LIKE 검색으로 동작 (db/migration/fulltext_ngram_indexes.sql 실행 필요)",
+                            index[0], index[1]);
+                    return;
+                }
+            }
+            available = true;
+            log.info("[FullTextSearch] ngram FULLTEXT 검색 사용");
+        } catch (RuntimeException e) {
+            log.warn("[FullTextSearch] FULLTEXT 인덱스 확인 실패, LIKE 검색으로 동작", e);
+        }
+    }
+
+    // FULLTEXT 로 검색할 수 있는 키워드인지: 단어마다 ngram 토큰 크기 이상이어야 구문 검색이 LIKE 와 같은 결과를 낸다
+    public boolean supports(String keyword) {
+        if (!available || keyword == null) {
+            return false;
+        }
+
+        String sanitized = sanitize(keyword);
+        if (sanitized.isEmpty()) {
+            return false;
+        }
+        for (String token : sanitized.split(" ")) {
+            if (token.codePointCount(0, token.length()) < ngramTokenSize) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public BooleanExpression matches(StringPath column, String keyword) {
+        return relevance(column, keyword).gt(0);
+    }
+
+    public BooleanExpression matches(StringPath column1, StringPath column2, String keyword) {
+        return relevance(column1, column2, keyword).gt(0);
+    }
+
+    public NumberExpression<Double> relevance(StringPath column, String keyword) {
+        return Expressions.numberTemplate(Double.class,
+                "function('match_against', {0}, {1})", column, toBooleanQuery(keyword));
+    }
+
+    public NumberExpression<Double> relevance(StringPath column1, StringPath column2, String keyword) {
+        return Expressions.numberTemplate(Double.class,
+                "function('match_against2', {0}, {1}, {2})", column1, column2, toBooleanQuery(keyword));
+    }
+
+    // boolean mode 연산자를 제거하고 구문(phrase) 검색으로 감싼다 -> LIKE %keyword% 와 같은 의미
+    private String toBooleanQuery(String keyword) {
+        return "\"" + sanitize(keyword) + "\"";
+    }
+
+    private String sanitize(String keyword) {
+        return keyword.replaceAll("[+\\-<>()~*\"@]", " ").trim().replaceAll("\\s+", " ");
+    }
+
+    private boolean isMySql() {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            return MYSQL.equalsIgnoreCase(metaData.getDatabaseProductName());
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private boolean indexExists(String table, String indexName) {
+        Integer count = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.statistics "
+                        + "where table_schema = database() and table_name = ? and index_name = ?",
+                Integer.class, table, indexName);
+        return count != null && count > 0;
+    }
+}
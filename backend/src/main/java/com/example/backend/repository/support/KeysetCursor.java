@@ -0,0 +1,57 @@
+package com.example.backend.repository.support;
+
+import com.example.backend.global.exception.custom.CustomException;
+import com.example.backend.global.exception.custom.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * keyset 페이지네이션용 복합 커서 (정렬 키 + id)
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 노출해서 내부 구조를 숨긴다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KeysetCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final String key;
+    private final Long id;
+
+    public static KeysetCursor of(Object key, Long id) {
+        return new KeysetCursor(String.valueOf(key), id);
+    }
+
+    public String encode() {
+        String raw = key + SEPARATOR + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 첫 페이지 요청이면 null
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex <= 0) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+
+            return new KeysetCursor(
+                    raw.substring(0, separatorIndex),
+                    Long.parseLong(raw.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException e) {
+            // Base64 / 숫자 형식 오류
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.backend.repository.support;
+
+import com.example.backend.global.exception.custom.CustomException;
+import com.example.backend.global.exception.custom.ErrorCode;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.function.Function;
+
+/**
+ * (정렬 키 desc, id desc) 기준 keyset(seek) 페이지네이션
+ * offset 대신 "마지막으로 본 (key, id) 보다 뒤" 조건으로 다음 페이지를 찾는다.
+ * 기존 where 조건(categoryEq, provinceEq ...)과 그대로 함께 쓸 수 있다.
+ */
+public final class KeysetSort<C extends Comparable<?>> {
+
+    private final ComparableExpressionBase<C> key;
+    private final NumberPath<Long> id;
+    private final Function<String, C> parser;
+
+    private KeysetSort(ComparableExpressionBase<C> key, NumberPath<Long> id, Function<String, C> parser) {
+        this.key = key;
+        this.id = id;
+        this.parser = parser;
+    }
+
+    public static KeysetSort<LocalDateTime> byDateTime(ComparableExpressionBase<LocalDateTime> key, NumberPath<Long> id) {
+        return new KeysetSort<>(key, id, LocalDateTime::parse);
+    }
+
+    public static KeysetSort<Double> byDouble(ComparableExpressionBase<Double> key, NumberPath<Long> id) {
+        return new KeysetSort<>(key, id, Double::valueOf);
+    }
+
+    public static KeysetSort<Integer> byInt(ComparableExpressionBase<Integer> key, NumberPath<Long> id) {
+        return new KeysetSort<>(key, id, Integer::valueOf);
+    }
+
+    // key < cursor.key or (key = cursor.key and id < cursor.id)
+    public BooleanExpression after(KeysetCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        Expression<C> value = Expressions.constant(parse(cursor.getKey()));
+
+        return Expressions.booleanOperation(Ops.LT, key, value)
+                .or(Expressions.booleanOperation(Ops.EQ, key, value)
+                        .and(id.lt(cursor.getId())));
+    }
+
+    public OrderSpecifier<?>[] orderBy() {
+        return new OrderSpecifier<?>[] {key.desc(), id.desc()};
+    }
+
+    private C parse(String value) {
+        try {
+            return parser.apply(value);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
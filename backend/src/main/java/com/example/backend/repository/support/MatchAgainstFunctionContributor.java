@@ -0,0 +1,31 @@
+package com.example.backend.repository.support;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * MySQL FULLTEXT 검색 함수 등록 (META-INF/services 로 로드)
+ * - match_against(col, query)         -> match(col) against (query in boolean mode)
+ * - match_against2(col1, col2, query) -> match(col1, col2) against (query in boolean mode)
+ * 반환값은 relevance 점수(불일치 시 0). MySQL 에서만 실행 가능하므로 FullTextSearch 로 감싸서 사용한다.
+ * 그 외 DB 에서는 같은 이름의 함수 호출로 남긴다 (H2 테스트는 support.H2MatchAgainst 를 alias 로 등록해 사용)
+ */
+public class MatchAgainstFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.DOUBLE);
+
+        boolean mysql = functionContributions.getDialect() instanceof MySQLDialect;
+
+        functionContributions.getFunctionRegistry().registerPattern("match_against",
+                mysql ? "match(?1) against (?2 in boolean mode)" : "match_against(?1, ?2)", doubleType);
+        functionContributions.getFunctionRegistry().registerPattern("match_against2",
+                mysql ? "match(?1, ?2) against (?3 in boolean mode)" : "match_against2(?1, ?2, ?3)", doubleType);
+    }
+}
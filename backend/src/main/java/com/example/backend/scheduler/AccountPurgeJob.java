@@ -0,0 +1,318 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.common.event.EventCalendarChangedEvent;
+import com.example.backend.common.event.EventChangedEvent;
+import com.example.backend.common.event.MeetingChangedEvent;
+import com.example.backend.domain.AccountPurge;
+import com.example.backend.dto.EventLifecycleRow;
+import com.example.backend.dto.PurgeRow;
+import com.example.backend.enums.AccountPurgeStep;
+import com.example.backend.repository.AccountPurgeRepository;
+import com.example.backend.repository.AnswerRepository;
+import com.example.backend.repository.EventJoinRequestRepository;
+import com.example.backend.repository.EventMemberRepository;
+import com.example.backend.repository.EventRepository;
+import com.example.backend.repository.MeetingJoinRequestRepository;
+import com.example.backend.repository.MeetingMemberRepository;
+import com.example.backend.repository.MeetingRepository;
+import com.example.backend.repository.QuestionRepository;
+import com.example.backend.repository.RefreshTokenRepository;
+import com.example.backend.repository.UserActivityCounterRepository;
+import com.example.backend.repository.UserRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 탈퇴 계정 정리 배치 (UserService.withdraw 는 탈퇴 표시 + account_purges 행만 만든다)
+ * - AccountPurgeStep 순서대로, 단계마다 "남은 행" 을 chunk-size 만큼 id 로 조회해 bulk delete
+ *   (엔티티를 읽어 한 건씩 지우지 않고, chunk 마다 짧은 트랜잭션)
+ * - 멤버 삭제 chunk 는 같은 트랜잭션에서 활동 수 / 인원 수를 함께 차감하므로 중간에 죽어도 어긋나지 않는다
+ * - 진행 상태(단계, 지운 행 수) 는 account_purges 에 남고, 다음 실행에서 현재 단계부터 이어서 처리
+ * - 한 번 실행에 최대 max-chunks 개 chunk, 여러 노드에서는 SchedulerLease 로 한 노드만 수행
+ * - 삭제/인원 변경된 모임·이벤트는 chunk 커밋 후 순위/피드/캘린더 캐시에 반영
+ */
+@Slf4j
+@Component
+public class AccountPurgeJob {
+
+    private static final String LOCK_NAME = "account-purge";
+
+    private final AccountPurgeRepository accountPurgeRepository;
+    private final MeetingRepository meetingRepository;
+    private final MeetingMemberRepository meetingMemberRepository;
+    private final MeetingJoinRequestRepository meetingJoinRequestRepository;
+    private final EventRepository eventRepository;
+    private final EventMemberRepository eventMemberRepository;
+    private final EventJoinRequestRepository eventJoinRequestRepository;
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserActivityCounterRepository userActivityCounterRepository;
+    private final UserRepository userRepository;
+    private final SchedulerLease schedulerLease;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Pageable chunk;
+    private final int maxChunks;
+    private final Duration lease;
+
+    public AccountPurgeJob(
+            AccountPurgeRepository accountPurgeRepository,
+            MeetingRepository meetingRepository,
+            MeetingMemberRepository meetingMemberRepository,
+            MeetingJoinRequestRepository meetingJoinRequestRepository,
+            EventRepository eventRepository,
+            EventMemberRepository eventMemberRepository,
+            EventJoinRequestRepository eventJoinRequestRepository,
+            QuestionRepository questionRepository,
+            AnswerRepository answerRepository,
+            RefreshTokenRepository refreshTokenRepository,
+            UserActivityCounterRepository userActivityCounterRepository,
+            UserRepository userRepository,
+            SchedulerLease schedulerLease,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${account.purge.chunk-size:500}") int chunkSize,
+            @Value("${account.purge.max-chunks:200}") int maxChunks,
+            @Value("${account.purge.lease-seconds:600}") long leaseSeconds
+    ) {
+        this.accountPurgeRepository = accountPurgeRepository;
+        this.meetingRepository = meetingRepository;
+        this.meetingMemberRepository = meetingMemberRepository;
+        this.meetingJoinRequestRepository = meetingJoinRequestRepository;
+        this.eventRepository = eventRepository;
+        this.eventMemberRepository = eventMemberRepository;
+        this.eventJoinRequestRepository = eventJoinRequestRepository;
+        this.questionRepository = questionRepository;
+        this.answerRepository = answerRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userActivityCounterRepository = userActivityCounterRepository;
+        this.userRepository = userRepository;
+        this.schedulerLease = schedulerLease;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunk = PageRequest.of(0, chunkSize);
+        this.maxChunks = maxChunks;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+    }
+
+    @Scheduled(
+            initialDelayString = "${account.purge.initial-delay-ms:30000}",
+            fixedDelayString = "${account.purge.interval-ms:10000}"
+    )
+    public void purgePending() {
+        if (!schedulerLease.tryAcquire(LOCK_NAME, lease)) {
+            return;
+        }
+
+        try {
+            int budget = maxChunks;
+            for (AccountPurge purge : accountPurgeRepository.findPending(PageRequest.of(0, 10))) {
+                try {
+                    budget = purge(purge, budget);
+                } catch (RuntimeException e) {
+                    // 정리 중 새로 생긴 행(FK 충돌 등) 은 해당 chunk 만 롤백되고 다음 실행에서 다시 시도
+                    log.warn("[탈퇴 정리 실패] userId={}, step={}", purge.getUserId(), purge.getStep(), e);
+                    budget--;
+                }
+                if (budget <= 0) {
+                    break;
+                }
+            }
+        } finally {
+            schedulerLease.release(LOCK_NAME);
+        }
+    }
+
+    // 남은 chunk 예산을 돌려준다 (예산이 다 떨어지면 현재 단계에서 멈추고 다음 실행에서 이어서)
+    private int purge(AccountPurge purge, int budget) {
+        Long userId = purge.getUserId();
+        AccountPurgeStep step = purge.getStep();
+        long deletedRows = purge.getDeletedRows();
+
+        while (budget > 0) {
+            AccountPurgeStep current = step;
+            Integer deleted = transactionTemplate.execute(status -> {
+                int rows = purgeChunk(userId, current);
+                if (rows > 0 && current != AccountPurgeStep.ACCOUNT) {
+                    accountPurgeRepository.addDeletedRows(userId, rows);
+                }
+                return rows;
+            });
+            budget--;
+
+            if (current == AccountPurgeStep.ACCOUNT) {
+                log.info("[탈퇴 정리 완료] userId={}, deletedRows={}", userId, deletedRows + deleted);
+                return budget;
+            }
+            if (deleted == null || deleted == 0) {
+                step = current.next();
+                AccountPurgeStep next = step;
+                transactionTemplate.executeWithoutResult(status -> accountPurgeRepository.moveTo(userId, next));
+            } else {
+                deletedRows += deleted;
+            }
+        }
+        return budget;
+    }
+
+    // 한 chunk 처리 후 지운 행 수, 0 이면 해당 단계 완료
+    private int purgeChunk(Long userId, AccountPurgeStep step) {
+        return switch (step) {
+            case HOSTED_MEETINGS -> purgeHostedMeeting(userId);
+            case HOSTED_EVENTS -> purgeHostedEvent(userId);
+            case QUESTIONS -> purgeQuestions(userId);
+            case JOIN_REQUESTS -> purgeJoinRequests(userId);
+            case MEMBERSHIPS -> purgeMemberships(userId);
+            case ACCOUNT -> purgeAccount(userId);
+        };
+    }
+
+    // 주최 모임 하나씩: 멤버 chunk -> 참여 신청 chunk -> 모임 행
+    private int purgeHostedMeeting(Long userId) {
+        List<PurgeRow> meetings = meetingRepository.findPurgeRowsByHostId(userId, PageRequest.of(0, 1));
+        if (meetings.isEmpty()) {
+            return 0;
+        }
+        Long meetingId = meetings.get(0).getId();
+
+        List<PurgeRow> members = meetingMemberRepository.findPurgeRowsByMeetingId(meetingId, chunk);
+        if (!members.isEmpty()) {
+            userActivityCounterRepository.decreaseMeetingCountByUserIds(refIds(members));
+            meetingMemberRepository.deleteAllByIdInBatch(ids(members));
+            return members.size();
+        }
+
+        List<Long> requestIds = meetingJoinRequestRepository.findIdsByMeetingId(meetingId, chunk);
+        if (!requestIds.isEmpty()) {
+            meetingJoinRequestRepository.deleteAllByIdInBatch(requestIds);
+            return requestIds.size();
+        }
+
+        int deleted = meetingRepository.purgeById(meetingId);
+        eventPublisher.publishEvent(new MeetingChangedEvent(meetingId, meetings.get(0).getRefId()));
+        return Math.max(deleted, 1);
+    }
+
+    // 주최 이벤트 하나씩: 멤버 chunk -> 참여 신청 chunk -> 이벤트 행
+    private int purgeHostedEvent(Long userId) {
+        List<EventLifecycleRow> events = eventRepository.findLifecycleRowsByHostId(userId, PageRequest.of(0, 1));
+        if (events.isEmpty()) {
+            return 0;
+        }
+        EventLifecycleRow event = events.get(0);
+
+        List<PurgeRow> members = eventMemberRepository.findPurgeRowsByEventId(event.getId(), chunk);
+        if (!members.isEmpty()) {
+            userActivityCounterRepository.decreaseEventCountByUserIds(refIds(members));
+            eventMemberRepository.deleteAllByIdInBatch(ids(members));
+            return members.size();
+        }
+
+        List<Long> requestIds = eventJoinRequestRepository.findIdsByEventId(event.getId(), chunk);
+        if (!requestIds.isEmpty()) {
+            eventJoinRequestRepository.deleteAllByIdInBatch(requestIds);
+            return requestIds.size();
+        }
+
+        int deleted = eventRepository.purgeById(event.getId());
+        eventPublisher.publishEvent(new EventChangedEvent(event.getId(), event.getLocationId()));
+        eventPublisher.publishEvent(new EventCalendarChangedEvent(
+                event.getId(), event.getLocationId(), event.getStartAt(), null, null));
+        return Math.max(deleted, 1);
+    }
+
+    // 내 질문에 달린 답변 -> 내 질문 -> 다른 질문에 내가 쓴 답변
+    private int purgeQuestions(Long userId) {
+        List<Long> answerIds = answerRepository.findIdsByQuestionUserId(userId, chunk);
+        if (!answerIds.isEmpty()) {
+            answerRepository.deleteAllByIdInBatch(answerIds);
+            return answerIds.size();
+        }
+
+        List<Long> questionIds = questionRepository.findIdsByUserId(userId, chunk);
+        if (!questionIds.isEmpty()) {
+            questionRepository.deleteAllByIdInBatch(questionIds);
+            return questionIds.size();
+        }
+
+        List<Long> myAnswerIds = answerRepository.findIdsByUserId(userId, chunk);
+        if (!myAnswerIds.isEmpty()) {
+            answerRepository.deleteAllByIdInBatch(myAnswerIds);
+        }
+        return myAnswerIds.size();
+    }
+
+    private int purgeJoinRequests(Long userId) {
+        List<Long> meetingRequestIds = meetingJoinRequestRepository.findIdsByUserId(userId, chunk);
+        if (!meetingRequestIds.isEmpty()) {
+            meetingJoinRequestRepository.deleteAllByIdInBatch(meetingRequestIds);
+            return meetingRequestIds.size();
+        }
+
+        List<Long> eventRequestIds = eventJoinRequestRepository.findIdsByUserId(userId, chunk);
+        if (!eventRequestIds.isEmpty()) {
+            eventJoinRequestRepository.deleteAllByIdInBatch(eventRequestIds);
+        }
+        return eventRequestIds.size();
+    }
+
+    // 참여 중인 모임/이벤트: 인원 차감 후 멤버 행 삭제 (한 사용자는 모임/이벤트당 멤버 행이 하나)
+    private int purgeMemberships(Long userId) {
+        List<PurgeRow> meetingMembers = meetingMemberRepository.findPurgeRowsByUserId(userId, chunk);
+        if (!meetingMembers.isEmpty()) {
+            List<Long> meetingIds = refIds(meetingMembers);
+            meetingRepository.decreaseMemberCountByIds(meetingIds);
+            meetingMemberRepository.deleteAllByIdInBatch(ids(meetingMembers));
+            meetingRepository.findPurgeRowsByIds(meetingIds).forEach(meeting ->
+                    eventPublisher.publishEvent(new MeetingChangedEvent(meeting.getId(), meeting.getRefId())));
+            return meetingMembers.size();
+        }
+
+        List<PurgeRow> eventMembers = eventMemberRepository.findPurgeRowsByUserId(userId, chunk);
+        if (!eventMembers.isEmpty()) {
+            List<Long> eventIds = refIds(eventMembers);
+            eventRepository.decreaseMemberCountByIds(eventIds);
+            eventMemberRepository.deleteAllByIdInBatch(ids(eventMembers));
+
+            LocalDateTime now = LocalDateTime.now();
+            for (EventLifecycleRow event : eventRepository.findLifecycleRowsByIds(eventIds)) {
+                eventPublisher.publishEvent(new EventChangedEvent(event.getId(), event.getLocationId()));
+                // 정원 마감(EventLifecycleScheduler)된 이벤트면 다시 모집
+                if (eventRepository.reopenIfSeatAvailable(event.getId(), now) == 1) {
+                    eventPublisher.publishEvent(new EventCalendarChangedEvent(
+                            event.getId(), event.getLocationId(), event.getStartAt(),
+                            event.getLocationId(), event.getStartAt()));
+                }
+            }
+        }
+        return eventMembers.size();
+    }
+
+    // 마지막 단계: 남은 토큰/활동 수/사용자 행과 진행 상태를 한 트랜잭션에서 삭제
+    private int purgeAccount(Long userId) {
+        refreshTokenRepository.deleteByUserId(userId);
+        userActivityCounterRepository.deleteByUserId(userId);
+        userRepository.deleteById(userId);
+        accountPurgeRepository.deleteById(userId);
+        return 1;
+    }
+
+    private static List<Long> ids(List<PurgeRow> rows) {
+        return rows.stream().map(PurgeRow::getId).toList();
+    }
+
+    private static List<Long> refIds(List<PurgeRow> rows) {
+        return rows.stream().map(PurgeRow::getRefId).toList();
+    }
+}
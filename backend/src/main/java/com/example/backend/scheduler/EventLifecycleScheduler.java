@@ -0,0 +1,133 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.common.event.EventCalendarChangedEvent;
+import com.example.backend.common.event.EventsClosedEvent;
+import com.example.backend.dto.EventLifecycleRow;
+import com.example.backend.enums.EventStatus;
+import com.example.backend.repository.EventRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 이벤트 모집 마감 배치
+ * - 모집 중(RECRUITING) 인데 이미 시작했거나 정원이 찬 이벤트를 CLOSED 로 전환
+ * - chunk 단위(id 목록) 짧은 트랜잭션으로 나눠 잠금 범위를 제한하고, 한 번 실행에 최대 chunk 수도 제한
+ * - 여러 노드에서 실행돼도 SchedulerLease 로 한 노드만 수행 (update 도 status 조건부라 겹쳐도 중복 전환 없음)
+ * - 전환된 이벤트는 커밋 후 번개 피드/캘린더/동네 캐시에 반영 (피드/동네 캐시는 chunk 당 EventsClosedEvent 하나)
+ * - 실행마다 전환 건수를 event.lifecycle.transitioned (reason=started|full) 로 기록
+ */
+@Slf4j
+@Component
+public class EventLifecycleScheduler {
+
+    private static final String LOCK_NAME = "event-lifecycle";
+
+    private final EventRepository eventRepository;
+    private final SchedulerLease schedulerLease;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final DistributionSummary startedSummary;
+    private final DistributionSummary fullSummary;
+    private final int chunkSize;
+    private final int maxChunks;
+    private final Duration lease;
+
+    public EventLifecycleScheduler(
+            EventRepository eventRepository,
+            SchedulerLease schedulerLease,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${event.lifecycle.chunk-size:500}") int chunkSize,
+            @Value("${event.lifecycle.max-chunks:20}") int maxChunks,
+            @Value("${event.lifecycle.lease-seconds:300}") long leaseSeconds
+    ) {
+        this.eventRepository = eventRepository;
+        this.schedulerLease = schedulerLease;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.startedSummary = transitioned(meterRegistry, "started");
+        this.fullSummary = transitioned(meterRegistry, "full");
+    }
+
+    @Scheduled(
+            initialDelayString = "${event.lifecycle.initial-delay-ms:30000}",
+            fixedDelayString = "${event.lifecycle.interval-ms:60000}"
+    )
+    public void closeEvents() {
+        if (!schedulerLease.tryAcquire(LOCK_NAME, lease)) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int started = closeInChunks(() -> eventRepository.findStartedByStatus(
+                    EventStatus.RECRUITING, now, PageRequest.of(0, chunkSize)));
+            int full = closeInChunks(() -> eventRepository.findFullByStatus(
+                    EventStatus.RECRUITING, PageRequest.of(0, chunkSize)));
+
+            startedSummary.record(started);
+            fullSummary.record(full);
+            if (started > 0 || full > 0) {
+                log.info("[이벤트 마감] started={}, full={}", started, full);
+            }
+        } finally {
+            schedulerLease.release(LOCK_NAME);
+        }
+    }
+
+    // 전환된 건이 있을 때만 다음 chunk 로 (대상이 계속 남아 있으면 다음 실행에서 이어서 처리)
+    private int closeInChunks(Supplier<List<EventLifecycleRow>> nextChunk) {
+        int total = 0;
+        for (int i = 0; i < maxChunks; i++) {
+            Integer closed = transactionTemplate.execute(status -> closeChunk(nextChunk.get()));
+            if (closed == null || closed == 0) {
+                break;
+            }
+            total += closed;
+        }
+        return total;
+    }
+
+    private int closeChunk(List<EventLifecycleRow> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = rows.stream().map(EventLifecycleRow::getId).toList();
+        int closed = eventRepository.closeRecruiting(ids);
+        eventPublisher.publishEvent(new EventsClosedEvent(ids, rows.stream()
+                .map(EventLifecycleRow::getLocationId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet())));
+        for (EventLifecycleRow row : rows) {
+            eventPublisher.publishEvent(new EventCalendarChangedEvent(
+                    row.getId(), row.getLocationId(), row.getStartAt(), row.getLocationId(), row.getStartAt()));
+        }
+        return closed;
+    }
+
+    private static DistributionSummary transitioned(MeterRegistry meterRegistry, String reason) {
+        return DistributionSummary.builder("event.lifecycle.transitioned")
+                .description("실행 1회에 CLOSED 로 전환된 이벤트 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.repository.EventRepository;
+import com.example.backend.repository.MeetingRepository;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Event / Meeting memberCount 보정 작업
+ * - 정상 경로에서는 멤버 추가/삭제와 같은 트랜잭션에서 증감되므로 어긋날 일이 없다.
+ * - 컬럼 추가 직후(기존 데이터 0) 나 수동 데이터 수정으로 어긋난 값을 실제 멤버 수로 맞춘다.
+ * - id 구간(chunk) 단위로 짧은 트랜잭션을 나눠 테이블 전체 잠금을 피한다.
+ * - 여러 노드에서 실행돼도 SchedulerLease 로 한 노드만 수행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberCountReconcileScheduler {
+
+    private static final String LOCK_NAME = "member-count-reconcile";
+
+    private final EventRepository eventRepository;
+    private final MeetingRepository meetingRepository;
+    private final SchedulerLease schedulerLease;
+
+    @Value("${member-count.reconcile.chunk-size:1000}")
+    private long chunkSize;
+
+    @Value("${member-count.reconcile.lease-seconds:1800}")
+    private long leaseSeconds;
+
+    @Scheduled(
+            initialDelayString = "${member-count.reconcile.initial-delay-ms:60000}",
+            fixedDelayString = "${member-count.reconcile.interval-ms:3600000}"
+    )
+    public void reconcile() {
+        if (!schedulerLease.tryAcquire(LOCK_NAME, Duration.ofSeconds(leaseSeconds))) {
+            return;
+        }
+
+        try {
+            int events = reconcile(eventRepository::findMaxId, eventRepository::reconcileMemberCount);
+            int meetings = reconcile(meetingRepository::findMaxId, meetingRepository::reconcileMemberCount);
+
+            if (events > 0 || meetings > 0) {
+                log.warn("[memberCount 보정] events={}, meetings={}", events, meetings);
+            }
+        } finally {
+            schedulerLease.release(LOCK_NAME);
+        }
+    }
+
+    private int reconcile(LongSupplier maxId, ChunkUpdater updater) {
+        long lastId = maxId.getAsLong();
+        int fixed = 0;
+
+        for (long from = 1; from <= lastId; from += chunkSize) {
+            fixed += updater.update(from, from + chunkSize - 1);
+        }
+        return fixed;
+    }
+
+    @FunctionalInterface
+    private interface ChunkUpdater {
+        int update(long fromId, long toId);
+    }
+}
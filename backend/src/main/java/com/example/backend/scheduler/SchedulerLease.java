@@ -0,0 +1,63 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.domain.SchedulerLock;
+import com.example.backend.repository.SchedulerLockRepository;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * scheduler_locks 테이블 기반 임대 잠금
+ * - 잠금 행이 없으면 만들고, lockedUntil 이 지난 경우에만 조건부 update 로 획득 (DB 가 한 노드만 통과시킴)
+ * - 작업 중 노드가 죽어도 lease 시간이 지나면 다른 노드가 가져간다
+ * - lease 는 작업 최대 수행 시간보다 길게 잡는다
+ */
+@Slf4j
+@Component
+public class SchedulerLease {
+
+    private static final LocalDateTime UNLOCKED = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final String owner;
+
+    public SchedulerLease(SchedulerLockRepository schedulerLockRepository) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.owner = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public boolean tryAcquire(String name, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        if (schedulerLockRepository.tryAcquire(name, owner, now, now.plus(lease)) == 1) {
+            return true;
+        }
+        if (schedulerLockRepository.existsById(name)) {
+            return false;
+        }
+
+        // 첫 실행: 잠금 행 생성 후 다시 시도 (동시에 만들면 한쪽은 중복 키로 실패)
+        try {
+            schedulerLockRepository.saveAndFlush(new SchedulerLock(name, UNLOCKED));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("[SchedulerLease] {} 잠금 행이 이미 생성됨", name);
+        }
+        return schedulerLockRepository.tryAcquire(name, owner, now, now.plus(lease)) == 1;
+    }
+
+    public void release(String name) {
+        schedulerLockRepository.release(name, owner, LocalDateTime.now());
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.repository.UserActivityCounterRepository;
+import com.example.backend.repository.UserRepository;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * user_activity_counters 채우기/보정 작업
+ * - 시작 시: 행이 없는 사용자(테이블 추가 전 가입자) 를 실제 개수로 채운다
+ * - 주기적으로: 누락 행 채우기 + 실제 개수와 다른 행 보정
+ * - MemberCountReconcileScheduler 와 같이 id 구간(chunk) 단위 짧은 트랜잭션으로 나눈다
+ * - 시작 시 채우기와 주기 보정 모두 같은 SchedulerLease 로 한 노드만 수행 (여러 노드가 같은 구간을 동시에 채우지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserActivityCounterScheduler {
+
+    private static final String LOCK_NAME = "user-activity-repair";
+
+    private final UserRepository userRepository;
+    private final UserActivityCounterRepository userActivityCounterRepository;
+    private final SchedulerLease schedulerLease;
+
+    @Value("${user-activity.repair.chunk-size:1000}")
+    private long chunkSize;
+
+    @Value("${user-activity.repair.lease-seconds:1800}")
+    private long leaseSeconds;
+
+    // 다른 노드가 채우는 중이면 건너뛴다 (남은 행은 주기 보정이 채움)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!schedulerLease.tryAcquire(LOCK_NAME, Duration.ofSeconds(leaseSeconds))) {
+            return;
+        }
+
+        try {
+            int filled = forEachChunk(userActivityCounterRepository::backfill);
+            if (filled > 0) {
+                log.info("[활동 수 초기화] users={}", filled);
+            }
+        } finally {
+            schedulerLease.release(LOCK_NAME);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${user-activity.repair.initial-delay-ms:600000}",
+            fixedDelayString = "${user-activity.repair.interval-ms:3600000}"
+    )
+    public void repair() {
+        if (!schedulerLease.tryAcquire(LOCK_NAME, Duration.ofSeconds(leaseSeconds))) {
+            return;
+        }
+
+        try {
+            int filled = forEachChunk(userActivityCounterRepository::backfill);
+            int fixed = forEachChunk(userActivityCounterRepository::repair);
+
+            if (filled > 0 || fixed > 0) {
+                log.warn("[활동 수 보정] filled={}, fixed={}", filled, fixed);
+            }
+        } finally {
+            schedulerLease.release(LOCK_NAME);
+        }
+    }
+
+    private int forEachChunk(ChunkUpdater updater) {
+        long lastId = userRepository.findMaxId();
+        int updated = 0;
+
+        for (long from = 1; from <= lastId; from += chunkSize) {
+            updated += updater.update(from, from + chunkSize - 1);
+        }
+        return updated;
+    }
+
+    @FunctionalInterface
+    private interface ChunkUpdater {
+        int update(long fromId, long toId);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.backend.security.jwt;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 인증된 사용자 principal (검증된 JWT claims 로만 생성, 매 요청 User 조회 없음)
+ * User 엔티티가 필요한 서비스는 getId() 로 직접 조회한다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AuthUser {
+
+    private final Long id;
+    private final String email;
+
+    public static AuthUser of(Long id, String email) {
+        return new AuthUser(id, email);
+    }
+}
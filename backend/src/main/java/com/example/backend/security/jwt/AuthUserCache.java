@@ -0,0 +1,84 @@
+package com.example.backend.security.jwt;
+
+import com.example.backend.domain.User;
+import com.example.backend.global.exception.custom.ErrorCode;
+import com.example.backend.global.exception.security.JwtSecurityException;
+import com.example.backend.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import java.time.Duration;
+import java.util.Date;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * AuthUser 로컬 캐시 (크기 제한 + 폐기(revoke) 반영)
+ * - 일반 토큰: claims 로 principal 생성 (DB 조회 없음)
+ * - 마스터 토큰: claims 가 없으므로 최초 1회만 DB 조회 후 캐시
+ * - revoke(userId): 그 시점 이전에 발급된 access token 은 인증 거부
+ *
+ * 폐기 기록은 노드 로컬 메모리에만 있어 best-effort 다.
+ * 다른 노드, 재기동 직후, 크기 초과로 기록이 밀려난 경우에는 남은 access token 수명 동안 인증이 통과할 수 있다.
+ * 그래서 탈퇴 여부(withdrawnAt)는 UserService / 주최자 검증에서 DB 값으로 다시 확인한다.
+ */
+@Component
+public class AuthUserCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, AuthUser> principals;
+    // userId -> 폐기 시각(epoch millis), access token 수명만큼만 유지하면 충분
+    private final Cache<Long, Long> revokedAt;
+
+    public AuthUserCache(
+            UserRepository userRepository,
+            JwtProvider jwtProvider,
+            @Value("${jwt.principal-cache.max-size:10000}") long maxSize,
+            @Value("${jwt.principal-cache.expire-seconds:600}") long expireSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofSeconds(expireSeconds))
+                .build();
+        this.revokedAt = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(jwtProvider.getAccessExpire()))
+                .build();
+    }
+
+    public AuthUser resolve(Claims claims) {
+        Long userId = Long.parseLong(claims.getSubject());
+        checkNotRevoked(userId, claims.getIssuedAt());
+
+        return principals.get(userId, id -> AuthUser.of(id, claims.get("email", String.class)));
+    }
+
+    public AuthUser resolveMaster(Long masterUserId) {
+        return principals.get(masterUserId, this::load);
+    }
+
+    // 탈퇴 등으로 기존 토큰을 더 이상 인정하지 않을 때
+    public void revoke(Long userId) {
+        revokedAt.put(userId, System.currentTimeMillis());
+        principals.invalidate(userId);
+    }
+
+    // 기록이 없으면 통과 (best-effort, 클래스 주석 참고)
+    private void checkNotRevoked(Long userId, Date issuedAt) {
+        Long revokedTime = revokedAt.getIfPresent(userId);
+        if (revokedTime == null) {
+            return;
+        }
+        if (issuedAt == null || issuedAt.getTime() <= revokedTime) {
+            throw new JwtSecurityException(ErrorCode.USER_NOT_FOUND);
+        }
+    }
+
+    private AuthUser load(Long userId) {
+        User user = userRepository.findById(userId)
+                .filter(found -> !found.isWithdrawn())
+                .orElseThrow(() -> new JwtSecurityException(ErrorCode.USER_NOT_FOUND));
+        return AuthUser.of(user.getId(), user.getEmail());
+    }
+}
@@ -1,12 +1,9 @@
 package com.example.backend.security.jwt;
 
-import com.example.backend.domain.User;
 import com.example.backend.global.exception.custom.ErrorCode;
 import com.example.backend.global.exception.security.JwtSecurityException;
-import com.example.backend.repository.UserRepository;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -26,7 +23,7 @@ import java.util.Collections;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtProvider jwtProvider;
-    private final UserRepository userRepository;
+    private final AuthUserCache authUserCache;
 
     @Override
     protected void doFilterInternal(
@@ -37,6 +34,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             try {
                 Authentication authentication = authenticate(token);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+            } catch (JwtSecurityException e) {
+                SecurityContextHolder.clearContext();
+                throw e;
             } catch (ExpiredJwtException e) {
                 SecurityContextHolder.clearContext();
                 throw new JwtSecurityException(ErrorCode.TOKEN_EXPIRED);
@@ -65,33 +65,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 
-    // 파싱
-    private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(jwtProvider.getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
     // 검증
     private Authentication authenticate(String token) {
         // 만료 없는 토큰 (환경변수로 설정한 userId 값으로 인증)
         if (jwtProvider.isMasterToken(token)) {
-            Long masterUserId = jwtProvider.getMasterUserIdOrThrow();
-            User masterUser = userRepository.findById(masterUserId)
-                    .orElseThrow(() -> new JwtSecurityException(ErrorCode.USER_NOT_FOUND));
+            AuthUser masterUser = authUserCache.resolveMaster(jwtProvider.getMasterUserIdOrThrow());
 
             return new UsernamePasswordAuthenticationToken(
                     masterUser, null, Collections.emptyList()
             );
         }
 
-        Claims claims = parseClaims(token);
-
-        Long userId = Long.parseLong(claims.getSubject());
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new JwtSecurityException(ErrorCode.USER_NOT_FOUND));
+        // 서명/만료가 검증된 claims 만으로 principal 생성 (User 조회 없음)
+        Claims claims = jwtProvider.parseClaims(token);
+        AuthUser user = authUserCache.resolve(claims);
 
         // 인증 객체 생성
         return new UsernamePasswordAuthenticationToken(
@@ -2,6 +2,8 @@ package com.example.backend.security.jwt;
 
 import com.example.backend.global.exception.custom.CustomException;
 import com.example.backend.global.exception.custom.ErrorCode;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -35,9 +37,15 @@ public class JwtProvider {
 
     private Key signingKey;
 
+    // 파서는 불변 + thread-safe 라서 요청마다 만들지 않고 하나를 재사용
+    private JwtParser jwtParser;
+
     @PostConstruct
     public void init() {
         this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     public String createAccessToken(Long userId, String email) {
@@ -60,6 +68,15 @@ public class JwtProvider {
                 .compact();
     }
 
+    // 서명 + 만료 검증 후 claims 반환 (실패 시 JwtException)
+    public Claims parseClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    public long getAccessExpire() {
+        return accessExpire;
+    }
+
     public LocalDateTime refreshTokenExpiresAt() {
         return LocalDateTime.now().plusSeconds(refreshExpire / 1000);
     }
@@ -26,6 +26,7 @@ public class AnswerService {
 	private final QuestionRepository questionRepository;
 	private final UserRepository userRepository;
 	private final AnswerRepository answerRepository;
+	private final QuestionTrendingScore trendingScore;
 
 	@Transactional
 	public void createAnswer(Long questionId, Long userId, AnswerCreateRequest request) {
@@ -33,6 +34,7 @@ public class AnswerService {
 			.orElseThrow(() -> new CustomException(ErrorCode.QUESTION_NOT_FOUND));
 
 		User user = userRepository.findById(userId)
+			.filter(found -> !found.isWithdrawn())
 			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
 		Answer answer = Answer.builder()
@@ -42,6 +44,7 @@ public class AnswerService {
 			.build();
 
 		answerRepository.save(answer);
+		trendingScore.recordAnswer(questionId);
 	}
 
 	public List<AnswerResponse> getAnswers(Long questionId) {
@@ -0,0 +1,136 @@
+package com.example.backend.service;
+
+import com.example.backend.common.event.EventCalendarChangedEvent;
+import com.example.backend.dto.EventCalendarResponse;
+import com.example.backend.dto.EventCalendarSearchCondition;
+import com.example.backend.dto.LocationResponse;
+import com.example.backend.global.exception.custom.CustomException;
+import com.example.backend.global.exception.custom.ErrorCode;
+import com.example.backend.repository.EventRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 이벤트 캘린더 월 버킷 캐시
+ * - (시/도, 시/군/구, 년월) 단위로 해당 월의 캘린더 항목 배열을 캐시 (province/city 는 비어 있으면 전체)
+ * - 임의의 from ~ to 조회는 걸친 월 버킷을 이어 붙이고 범위 밖 항목만 걸러낸다
+ * - 캘린더에 보이는 값이 바뀐 이벤트는 변경 전/후 (동네, 월) 에 해당하는 버킷만 무효화
+ *   (한 동네의 변경은 "동네", "시/도 전체", "시/군/구만", "전체" 네 가지 조건의 버킷에 보인다)
+ * - 조회 가능한 기간은 max-range-days 로 제한
+ */
+@Component
+public class EventCalendarCache {
+
+    private final EventRepository eventRepository;
+    private final LocationRegistry locationRegistry;
+    private final long maxRangeDays;
+    private final LoadingCache<BucketKey, EventCalendarResponse[]> buckets;
+
+    public EventCalendarCache(
+            EventRepository eventRepository,
+            LocationRegistry locationRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${event.calendar.max-range-days:93}") long maxRangeDays,
+            @Value("${event.calendar.cache.max-buckets:5000}") long maxBuckets,
+            @Value("${event.calendar.cache.expire-minutes:60}") long expireMinutes
+    ) {
+        this.eventRepository = eventRepository;
+        this.locationRegistry = locationRegistry;
+        this.maxRangeDays = maxRangeDays;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .recordStats()
+                .build(this::loadBucket);
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "eventCalendar");
+    }
+
+    public List<EventCalendarResponse> find(EventCalendarSearchCondition condition) {
+        LocalDate from = condition.getFrom();
+        LocalDate to = condition.getTo();
+
+        if (from.isAfter(to)) {
+            throw new CustomException(ErrorCode.INVALID_DATE_RANGE);
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > maxRangeDays) {
+            throw new CustomException(ErrorCode.CALENDAR_RANGE_TOO_LARGE);
+        }
+
+        String province = blankToNull(condition.getProvince());
+        String city = blankToNull(condition.getCity());
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime endExclusive = to.plusDays(1).atStartOfDay();
+
+        List<EventCalendarResponse> result = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+            for (EventCalendarResponse item : buckets.get(new BucketKey(province, city, month))) {
+                if (!item.getStartAt().isBefore(start) && item.getStartAt().isBefore(endExclusive)) {
+                    result.add(item);
+                }
+            }
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCalendarChanged(EventCalendarChangedEvent event) {
+        invalidate(event.getPreviousLocationId(), event.getPreviousStartAt());
+        invalidate(event.getLocationId(), event.getStartAt());
+    }
+
+    private void invalidate(Long locationId, LocalDateTime startAt) {
+        if (locationId == null || startAt == null) {
+            return;
+        }
+
+        YearMonth month = YearMonth.from(startAt);
+        LocationResponse location = locationRegistry.findById(locationId).orElse(null);
+        if (location == null) {
+            // 레지스트리에 없는 동네면 해당 월 전체를 비운다
+            buckets.asMap().keySet().removeIf(key -> key.month.equals(month));
+            return;
+        }
+
+        String province = location.getProvince();
+        String city = location.getCity();
+        buckets.invalidateAll(List.of(
+                new BucketKey(province, city, month),
+                new BucketKey(province, null, month),
+                new BucketKey(null, city, month),
+                new BucketKey(null, null, month)));
+    }
+
+    private EventCalendarResponse[] loadBucket(BucketKey key) {
+        EventCalendarSearchCondition condition = new EventCalendarSearchCondition();
+        condition.setFrom(key.month.atDay(1));
+        condition.setTo(key.month.atEndOfMonth());
+        condition.setProvince(key.province);
+        condition.setCity(key.city);
+
+        return eventRepository.findEventListForCalendar(condition).stream()
+                .sorted(Comparator.comparing(EventCalendarResponse::getStartAt)
+                        .thenComparing(EventCalendarResponse::getId))
+                .toArray(EventCalendarResponse[]::new);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private record BucketKey(String province, String city, YearMonth month) {
+    }
+}
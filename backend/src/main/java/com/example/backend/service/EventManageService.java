@@ -1,10 +1,14 @@
 package com.example.backend.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.backend.common.event.EventCalendarChangedEvent;
+import com.example.backend.common.event.EventChangedEvent;
 import com.example.backend.domain.Event;
 import com.example.backend.domain.EventJoinRequest;
 import com.example.backend.domain.EventMember;
@@ -18,6 +22,7 @@ import com.example.backend.repository.EventJoinRequestRepository;
 import com.example.backend.repository.EventMemberRepository;
 import com.example.backend.repository.EventRepository;
 import com.example.backend.repository.LocationRepository;
+import com.example.backend.repository.UserActivityCounterRepository;
 import com.example.backend.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -32,6 +37,8 @@ public class EventManageService {
 	private final UserRepository userRepository;
 	private final LocationRepository locationRepository;
 	private final EventJoinRequestRepository eventJoinRequestRepository;
+	private final UserActivityCounterRepository userActivityCounterRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public List<EventJoinRequestResponse> getJoinRequests(Long eventId, Long userId) {
 		Event event = getEvent(eventId);
@@ -60,11 +67,15 @@ public class EventManageService {
 
 		checkStatus(request);
 
-		Event event = getEvent(eventId);
-		checkCapacity(getEvent(eventId));
+		// 좌석 예약을 먼저 (멤버 insert 의 FK 공유 잠금 이후 update 하면 동시 승인끼리 교착될 수 있음)
+		if (eventRepository.reserveSeat(eventId) == 0) {
+			throw new CustomException(ErrorCode.EVENT_IS_FULL);
+		}
 
 		request.approve();
-		eventMemberRepository.save(EventMember.createMember(event, request.getUser()));
+		eventMemberRepository.save(EventMember.createMember(request.getEvent(), request.getUser()));
+		userActivityCounterRepository.addEventCount(request.getUser().getId(), 1);
+		publishChanged(request.getEvent());
 	}
 
 	@Transactional
@@ -112,6 +123,21 @@ public class EventManageService {
 		}
 
 		eventMemberRepository.delete(member);
+		eventRepository.decreaseMemberCount(eventId);
+		userActivityCounterRepository.addEventCount(member.getUser().getId(), -1);
+		publishChanged(event);
+
+		// 정원 마감(EventLifecycleScheduler)된 이벤트면 다시 모집
+		if (eventRepository.reopenIfSeatAvailable(eventId, LocalDateTime.now()) == 1) {
+			Long locationId = event.getLocation().getId();
+			eventPublisher.publishEvent(new EventCalendarChangedEvent(
+				eventId, locationId, event.getStartAt(), locationId, event.getStartAt()));
+		}
+	}
+
+	// 커밋 후 인원 변경 반영 (번개 피드, 동네 캐시)
+	private void publishChanged(Event event) {
+		eventPublisher.publishEvent(new EventChangedEvent(event.getId(), event.getLocation().getId()));
 	}
 
 	private void checkStatus(EventJoinRequest request) {
@@ -126,15 +152,9 @@ public class EventManageService {
 	}
 
 	private void validateHost(Long eventId, Long userId) {
-		if (!eventMemberRepository.existsByEventIdAndUserIdAndRole(
+		if (!eventMemberRepository.existsByEventIdAndUserIdAndRoleAndUserWithdrawnAtIsNull(
 			eventId, userId, ParticipantRole.HOST)) {
 			throw new CustomException(ErrorCode.EVENT_HOST_ONLY);
 		}
 	}
-
-	private void checkCapacity(Event event) {
-		if (eventMemberRepository.countByEvent(event) >= event.getCapacity()) {
-			throw new CustomException(ErrorCode.EVENT_IS_FULL);
-		}
-	}
 }
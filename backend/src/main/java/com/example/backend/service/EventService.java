@@ -12,6 +12,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.backend.common.event.EventCalendarChangedEvent;
+import com.example.backend.common.event.EventChangedEvent;
 import com.example.backend.domain.Event;
 import com.example.backend.domain.EventJoinRequest;
 import com.example.backend.domain.EventMember;
@@ -27,6 +29,7 @@ import com.example.backend.dto.EventMemberResponse;
 import com.example.backend.dto.EventSearchCondition;
 import com.example.backend.dto.EventUpdateRequest;
 import com.example.backend.dto.FlashEventListResponse;
+import com.example.backend.dto.KeysetPageResponse;
 import com.example.backend.enums.EventCategory;
 import com.example.backend.enums.EventStatus;
 import com.example.backend.enums.JoinRequestStatus;
@@ -38,9 +41,12 @@ import com.example.backend.repository.EventJoinRequestRepository;
 import com.example.backend.repository.EventMemberRepository;
 import com.example.backend.repository.EventRepository;
 import com.example.backend.repository.LocationRepository;
+import com.example.backend.repository.UserActivityCounterRepository;
 import com.example.backend.repository.UserRepository;
+import com.example.backend.repository.support.KeysetCursor;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 
 @Service
 @RequiredArgsConstructor
@@ -52,24 +58,42 @@ public class EventService {
 	private final UserRepository userRepository;
 	private final LocationRepository locationRepository;
 	private final EventJoinRequestRepository eventJoinRequestRepository;
+	private final UserActivityCounterRepository userActivityCounterRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final FlashEventFeed flashEventFeed;
+	private final EventCalendarCache eventCalendarCache;
 
 	public Page<EventListResponse> getEventList(EventSearchCondition condition, Pageable pageable) {
 		return eventRepository.findEventList(condition, pageable);
 	}
 
+	public KeysetPageResponse<EventListResponse> getEventListByCursor(
+		EventSearchCondition condition,
+		String cursor,
+		int size
+	) {
+		KeysetPageResponse.validateSize(size);
+
+		List<EventListResponse> items =
+			eventRepository.findEventListByCursor(condition, KeysetCursor.decode(cursor), size + 1);
+
+		return KeysetPageResponse.of(items, size,
+			item -> KeysetCursor.of(item.getCreatedAt(), item.getEventId()));
+	}
+
 	public Page<FlashEventListResponse> getFlashEventList(EventSearchCondition condition, Pageable pageable) {
-		return eventRepository.findFlashEventList(condition, pageable);
+		return flashEventFeed.find(condition, pageable);
 	}
 
+	// 월 버킷 캐시에서 조회 (기간 검증 포함)
 	public List<EventCalendarResponse> getCalendarEvents(EventCalendarSearchCondition condition) {
-		if (condition.getFrom().isAfter(condition.getTo())) {
-			throw new CustomException(ErrorCode.INVALID_DATE_RANGE);
-		}
-		return eventRepository.findEventListForCalendar(condition);
+		return eventCalendarCache.find(condition);
 	}
 
-	public EventDetailResponse getEventDetail(User user, Long eventId) {
-		Event event = getEvent(eventId);
+	public EventDetailResponse getEventDetail(Long userId, Long eventId) {
+		// 이벤트 + 멤버 fetch join 1회, 로그인 사용자면 신청 상태 조회 1회
+		Event event = eventRepository.findDetailWithMembersById(eventId)
+			.orElseThrow(() -> new CustomException(ErrorCode.EVENT_NOT_FOUND));
 
 		List<EventMemberResponse> members = event.getMembers().stream()
 			.map(EventMapper::toEventMemberResponse)
@@ -81,9 +105,9 @@ public class EventService {
 
 		JoinRequestStatus joinRequestStatus = null;
 
-		if (user != null) {
+		if (userId != null) {
 			joinRequestStatus = eventJoinRequestRepository
-				.findByEventAndUser(event, user)
+				.findByEvent_IdAndUser_Id(eventId, userId)
 				.map(EventJoinRequest::getStatus)
 				.orElse(null); // 또는 JoinRequestStatus.NONE
 		}
@@ -105,7 +129,11 @@ public class EventService {
 
 		EventMember hostMember = EventMember.createHost(event, host);
 		eventMemberRepository.save(hostMember);
+		userActivityCounterRepository.addEventCount(userId, 1);
 
+		publishChanged(event);
+		eventPublisher.publishEvent(new EventCalendarChangedEvent(
+			event.getId(), null, null, location.getId(), event.getStartAt()));
 		return event.getId();
 	}
 
@@ -119,6 +147,10 @@ public class EventService {
 
 		validateHost(eventId, userId);
 
+		Long previousLocationId = event.getLocation().getId();
+		LocalDateTime previousStartAt = event.getStartAt();
+		String previousTitle = event.getTitle();
+		EventCategory previousCategory = event.getCategory();
 		Location location = null;
 		if (request.getLocationId() != null) {
 			location = locationRepository.findById(request.getLocationId())
@@ -134,6 +166,21 @@ public class EventService {
 			request.getStartAt(),
 			request.getCapacity()
 		);
+
+		// 동네가 바뀌었으면 이전 동네도 무효화
+		if (!previousLocationId.equals(event.getLocation().getId())) {
+			eventPublisher.publishEvent(new EventChangedEvent(eventId, previousLocationId));
+		}
+		publishChanged(event);
+
+		// 캘린더에 보이는 값이 바뀐 경우에만 변경 전/후 월 버킷 무효화
+		if (!previousLocationId.equals(event.getLocation().getId())
+			|| !previousStartAt.equals(event.getStartAt())
+			|| !previousTitle.equals(event.getTitle())
+			|| previousCategory != event.getCategory()) {
+			eventPublisher.publishEvent(new EventCalendarChangedEvent(
+				eventId, previousLocationId, previousStartAt, event.getLocation().getId(), event.getStartAt()));
+		}
 	}
 
 	@Transactional
@@ -141,6 +188,14 @@ public class EventService {
 		Event event = getEvent(eventId);
 		validateHost(eventId, userId);
 		event.cancel();
+		publishChanged(event);
+		eventPublisher.publishEvent(new EventCalendarChangedEvent(
+			eventId, event.getLocation().getId(), event.getStartAt(), null, null));
+	}
+
+	// 커밋 후 동네 캐시 무효화
+	private void publishChanged(Event event) {
+		eventPublisher.publishEvent(new EventChangedEvent(event.getId(), event.getLocation().getId()));
 	}
 
 	@Transactional
@@ -153,8 +208,8 @@ public class EventService {
 			throw new CustomException(ErrorCode.EVENT_NOT_OPEN);
 		}
 
-		// 정원 초과 신청 불가
-		if (eventMemberRepository.countByEvent(event) >= event.getCapacity()) {
+		// 정원 초과 신청 불가 (최종 보장은 승인 시 좌석 예약)
+		if (event.getMemberCount() >= event.getCapacity()) {
 			throw new CustomException(ErrorCode.EVENT_IS_FULL);
 		}
 
@@ -195,12 +250,14 @@ public class EventService {
 	}
 
 	private User getUser(Long userId) {
+		// 탈퇴 처리 중인 계정은 새 데이터를 만들 수 없다 (정리 작업과 겹치지 않도록)
 		return userRepository.findById(userId)
+			.filter(user -> !user.isWithdrawn())
 			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 	}
 
 	private void validateHost(Long eventId, Long userId) {
-		if (!eventMemberRepository.existsByEventIdAndUserIdAndRole(
+		if (!eventMemberRepository.existsByEventIdAndUserIdAndRoleAndUserWithdrawnAtIsNull(
 			eventId, userId, ParticipantRole.HOST)) {
 			throw new CustomException(ErrorCode.EVENT_HOST_ONLY);
 		}
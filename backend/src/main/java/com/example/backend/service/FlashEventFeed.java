@@ -0,0 +1,246 @@
+package com.example.backend.service;
+
+import com.example.backend.common.event.EventChangedEvent;
+import com.example.backend.common.event.EventsClosedEvent;
+import com.example.backend.dto.EventSearchCondition;
+import com.example.backend.dto.FlashEventListResponse;
+import com.example.backend.enums.EventStatus;
+import com.example.backend.repository.EventRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 번개 이벤트 인메모리 피드 ((시/도, 시/군/구) 별 startAt 오름차순)
+ * - 번개는 당일 이벤트만 생성되므로(EventService.validateFlashStartAt) 모집 중 + 시작 전 전체를 메모리에 둔다
+ * - 시작 시 DB 에서 적재, 이벤트 변경(생성/수정/취소/승인/강퇴) 커밋 후 해당 이벤트 한 건만 다시 읽어 반영
+ *   (같은 이벤트의 reload 가 겹치면 가장 늦게 시작한 것만 반영, PopularMeetingLeaderboard 와 같은 방식)
+ * - 메모리 반영과 구독자 전송 예약은 같은 잠금 안에서 해 변경 순서대로 전달된다
+ * - 마감 배치(EventsClosedEvent) 는 DB 를 다시 읽지 않고 메모리에서만 제거
+ * - 시작 시각이 지난 항목은 주기적으로 앞에서부터 제거 (조회 시에도 지난 항목은 건너뜀)
+ * - 변경분은 FlashEventStream 으로 SSE 구독자에게 전달
+ * - 준비 전에는 기존 SQL 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FlashEventFeed {
+
+    private static final Comparator<FlashEventListResponse> ORDER = Comparator
+            .comparing(FlashEventListResponse::getStartAt)
+            .thenComparing(FlashEventListResponse::getEventId);
+
+    // SSE 첫 목록 최대 개수
+    private static final int SNAPSHOT_LIMIT = 100;
+
+    private final EventRepository eventRepository;
+    private final FlashEventStream stream;
+
+    private final Map<String, ConcurrentSkipListSet<FlashEventListResponse>> boards = new ConcurrentHashMap<>();
+    private final Map<Long, FlashEventListResponse> entries = new ConcurrentHashMap<>();
+    // reload 순번: eventId -> 진행 중인 reload 중 가장 늦게 시작한 순번
+    private final AtomicLong reloadSequence = new AtomicLong();
+    private final Map<Long, Long> pendingReloads = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<FlashEventListResponse> events = eventRepository.findUpcomingFlashEvents(LocalDateTime.now());
+        synchronized (this) {
+            boards.clear();
+            entries.clear();
+            events.forEach(this::put);
+        }
+        ready = true;
+        log.info("[FlashEventFeed] 번개 이벤트 {}건 로드", events.size());
+    }
+
+    public Page<FlashEventListResponse> find(EventSearchCondition condition, Pageable pageable) {
+        if (!ready) {
+            return eventRepository.findFlashEventList(condition, pageable);
+        }
+
+        List<FlashEventListResponse> matched = matching(condition).toList();
+        List<FlashEventListResponse> content = matched.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        return new PageImpl<>(content, pageable, matched.size());
+    }
+
+    // 첫 목록도 메모리에서만 만든다 (open-in-view 에서 DB 를 건드리면 스트림이 열려 있는 동안 커넥션을 쥐고 있게 됨)
+    // 구독 등록 후 전송 스레드에서 만들어 그 사이 변경분과 순서를 맞춘다
+    public SseEmitter subscribe(EventSearchCondition condition, Long userId) {
+        return stream.subscribe(userId, condition.getProvince(), condition.getCity(),
+                () -> ready ? matching(condition).limit(SNAPSHOT_LIMIT).toList() : List.of());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent event) {
+        if (!ready) {
+            return;
+        }
+
+        Long eventId = event.getEventId();
+        long version = reloadSequence.incrementAndGet();
+        pendingReloads.merge(eventId, version, Math::max);
+
+        FlashEventListResponse current = eventRepository.findFlashEvent(eventId)
+                .filter(this::isOpen)
+                .orElse(null);
+
+        synchronized (this) {
+            // 뒤에 시작한 reload 가 있으면 그쪽이 더 최신 값을 읽으므로 쓰지 않는다
+            if (!pendingReloads.remove(eventId, version)) {
+                return;
+            }
+
+            FlashEventListResponse previous = remove(eventId);
+            if (current != null) {
+                put(current);
+                // 동네가 바뀌었으면 이전 동네 구독자에게는 제거로 보인다
+                if (previous != null && !sameTown(previous, current)) {
+                    stream.remove(previous);
+                }
+                stream.upsert(current);
+            } else if (previous != null) {
+                stream.remove(previous);
+            }
+        }
+    }
+
+    // 마감 배치: 방금 CLOSED 로 바뀐 행이라 DB 를 다시 읽지 않고 메모리에서만 제거
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventsClosed(EventsClosedEvent event) {
+        if (!ready) {
+            return;
+        }
+
+        synchronized (this) {
+            for (Long eventId : event.getEventIds()) {
+                // 마감 전 값을 읽었을 수 있는 진행 중 reload 는 쓰지 않게 한다
+                pendingReloads.remove(eventId);
+                FlashEventListResponse previous = remove(eventId);
+                if (previous != null) {
+                    stream.remove(previous);
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${flash.feed.expire-interval-ms:30000}")
+    public void expire() {
+        if (!ready) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<FlashEventListResponse> expired = new ArrayList<>();
+
+        synchronized (this) {
+            for (ConcurrentSkipListSet<FlashEventListResponse> board : boards.values()) {
+                // startAt 오름차순이므로 앞에서부터 지난 것만 꺼낸다
+                while (!board.isEmpty() && !board.first().getStartAt().isAfter(now)) {
+                    FlashEventListResponse first = board.pollFirst();
+                    entries.remove(first.getEventId());
+                    expired.add(first);
+                }
+            }
+            boards.values().removeIf(ConcurrentSkipListSet::isEmpty);
+            expired.forEach(stream::remove);
+        }
+
+        stream.ping();
+    }
+
+    private Stream<FlashEventListResponse> matching(EventSearchCondition condition) {
+        LocalDateTime now = LocalDateTime.now();
+        String province = condition.getProvince();
+        String city = condition.getCity();
+        String keyword = condition.getKeyword();
+
+        Stream<FlashEventListResponse> candidates;
+        if (hasText(province) && hasText(city)) {
+            ConcurrentSkipListSet<FlashEventListResponse> board = boards.get(townKey(province, city));
+            candidates = board == null ? Stream.empty() : board.stream();
+        } else {
+            candidates = entries.values().stream()
+                    .filter(event -> !hasText(province) || province.equals(event.getProvince()))
+                    .filter(event -> !hasText(city) || city.equals(event.getCity()))
+                    .sorted(ORDER);
+        }
+
+        return candidates
+                .filter(event -> event.getStartAt().isAfter(now))
+                .filter(event -> !hasText(keyword) || containsKeyword(event, keyword));
+    }
+
+    // SQL fallback(LIKE) 과 같은 의미의 부분 일치
+    private boolean containsKeyword(FlashEventListResponse event, String keyword) {
+        String lower = keyword.toLowerCase();
+        return (event.getTitle() != null && event.getTitle().toLowerCase().contains(lower))
+                || (event.getDescription() != null && event.getDescription().toLowerCase().contains(lower));
+    }
+
+    private boolean isOpen(FlashEventListResponse event) {
+        return event.getStatus() == EventStatus.RECRUITING
+                && event.getStartAt() != null
+                && event.getStartAt().isAfter(LocalDateTime.now());
+    }
+
+    // synchronized 블록 안에서만 호출
+    private void put(FlashEventListResponse event) {
+        boards.computeIfAbsent(townKey(event.getProvince(), event.getCity()),
+                key -> new ConcurrentSkipListSet<>(ORDER)).add(event);
+        entries.put(event.getEventId(), event);
+    }
+
+    private FlashEventListResponse remove(Long eventId) {
+        FlashEventListResponse previous = entries.remove(eventId);
+        if (previous == null) {
+            return null;
+        }
+
+        String key = townKey(previous.getProvince(), previous.getCity());
+        ConcurrentSkipListSet<FlashEventListResponse> board = boards.get(key);
+        if (board != null) {
+            board.remove(previous);
+            if (board.isEmpty()) {
+                boards.remove(key);
+            }
+        }
+        return previous;
+    }
+
+    private static boolean sameTown(FlashEventListResponse a, FlashEventListResponse b) {
+        return Objects.equals(a.getProvince(), b.getProvince()) && Objects.equals(a.getCity(), b.getCity());
+    }
+
+    private static String townKey(String province, String city) {
+        return province + "|" + city;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.FlashEventListResponse;
+import com.example.backend.global.exception.custom.CustomException;
+import com.example.backend.global.exception.custom.ErrorCode;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 번개 이벤트 SSE 구독 관리
+ * - 구독 시 현재 목록(snapshot) 을 보내고, 이후 변경분만 upsert / remove 로 보낸다
+ *   (구독자를 먼저 등록하고 snapshot 은 전송 스레드에서 만든다 -> 그 사이 변경분도 빠지지 않음)
+ * - province/city 가 비어 있으면 해당 조건 전체 구독
+ * - 전송은 flashStreamExecutor(스레드 1개, 순서 유지) 에서 한다 -> 커밋 스레드가 느린 클라이언트를 기다리지 않음
+ * - 전체 구독 수(max-subscribers) 와 사용자별 구독 수(max-subscribers-per-user) 를 제한
+ * - 전송 실패한 연결은 바로 정리 (끊긴 클라이언트를 붙잡고 있지 않도록)
+ */
+@Slf4j
+@Component
+public class FlashEventStream {
+
+    private static final String SNAPSHOT = "snapshot";
+    private static final String UPSERT = "upsert";
+    private static final String REMOVE = "remove";
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    // 구독 자리: 확인과 등록 사이에 다른 요청이 끼어들지 않도록 semaphore 로 잡는다
+    private final Semaphore slots;
+    private final Map<Long, Integer> subscriptionsByUser = new ConcurrentHashMap<>();
+    private final Executor sender;
+    private final long timeoutMs;
+    private final int maxSubscribersPerUser;
+
+    public FlashEventStream(
+            @Qualifier("flashStreamExecutor") Executor sender,
+            @Value("${flash.feed.sse-timeout-ms:1800000}") long timeoutMs,
+            @Value("${flash.feed.max-subscribers:1000}") int maxSubscribers,
+            @Value("${flash.feed.max-subscribers-per-user:3}") int maxSubscribersPerUser
+    ) {
+        this.sender = sender;
+        this.timeoutMs = timeoutMs;
+        this.slots = new Semaphore(maxSubscribers);
+        this.maxSubscribersPerUser = maxSubscribersPerUser;
+    }
+
+    public SseEmitter subscribe(
+            Long userId, String province, String city, Supplier<List<FlashEventListResponse>> snapshot) {
+        if (!slots.tryAcquire()) {
+            throw new CustomException(ErrorCode.FLASH_STREAM_UNAVAILABLE);
+        }
+        if (!acquireUserSlot(userId)) {
+            slots.release();
+            throw new CustomException(ErrorCode.FLASH_STREAM_TOO_MANY);
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(userId, emitter, blankToNull(province), blankToNull(city));
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        subscribers.add(subscriber);
+        // 등록 후 전송 스레드에서 snapshot 을 만든다: 등록 이후 변경분은 snapshot 에 들어 있거나 뒤이은 upsert / remove 로 온다
+        dispatch(() -> send(subscriber, SNAPSHOT, snapshot.get()));
+        return emitter;
+    }
+
+    public void upsert(FlashEventListResponse event) {
+        broadcast(event, UPSERT, event);
+    }
+
+    public void remove(FlashEventListResponse event) {
+        broadcast(event, REMOVE, Map.of("eventId", event.getEventId()));
+    }
+
+    // 프록시/로드밸런서의 유휴 연결 종료 방지
+    public void ping() {
+        dispatch(() -> {
+            for (Subscriber subscriber : subscribers) {
+                try {
+                    subscriber.emitter.send(SseEmitter.event().comment("ping"));
+                } catch (IOException | IllegalStateException e) {
+                    drop(subscriber);
+                }
+            }
+        });
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private void broadcast(FlashEventListResponse event, String name, Object data) {
+        dispatch(() -> {
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.matches(event)) {
+                    send(subscriber, name, data);
+                }
+            }
+        });
+    }
+
+    // 전송 대기열이 넘치면 변경분을 잃은 구독이 생기므로 모두 끊고 재접속(새 snapshot) 하게 한다
+    private void dispatch(Runnable task) {
+        try {
+            sender.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("[FlashEventStream] 전송 대기열 초과, 구독 {}개 종료", subscribers.size());
+            subscribers.forEach(this::drop);
+        }
+    }
+
+    private void send(Subscriber subscriber, String name, Object data) {
+        try {
+            subscriber.emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("[FlashEventStream] 전송 실패, 구독 해제", e);
+            drop(subscriber);
+        }
+    }
+
+    private void drop(Subscriber subscriber) {
+        unsubscribe(subscriber);
+        subscriber.emitter.complete();
+    }
+
+    // 완료/타임아웃/오류/전송 실패가 겹쳐도 자리는 한 번만 반납
+    private void unsubscribe(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscribers.remove(subscriber);
+        subscriptionsByUser.computeIfPresent(subscriber.userId, (id, count) -> count > 1 ? count - 1 : null);
+        slots.release();
+    }
+
+    private boolean acquireUserSlot(Long userId) {
+        AtomicBoolean acquired = new AtomicBoolean();
+        subscriptionsByUser.compute(userId, (id, count) -> {
+            int current = count == null ? 0 : count;
+            if (current >= maxSubscribersPerUser) {
+                return count;
+            }
+            acquired.set(true);
+            return current + 1;
+        });
+        return acquired.get();
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static final class Subscriber {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final String province;
+        private final String city;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(Long userId, SseEmitter emitter, String province, String city) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.province = province;
+            this.city = city;
+        }
+
+        boolean matches(FlashEventListResponse event) {
+            return (province == null || Objects.equals(province, event.getProvince()))
+                    && (city == null || Objects.equals(city, event.getCity()));
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.LocationResponse;
+import com.example.backend.repository.LocationRepository;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지역(Location) 인메모리 레지스트리
+ * - 시작 시 전체 지역을 한 번 읽어 불변 스냅샷으로 보관, refresh() 로 통째로 교체 (관리 포트 POST /actuator/locations)
+ * - 시/도, 시/군/구 에 대해 bigram 색인으로 중간 일치 검색 (자동완성은 DB 조회 없음)
+ * - 초성 검색 지원 ("ㄱㄴ" -> 강남구, "강ㄴ" 처럼 섞어 써도 일치)
+ * - 공백으로 나눈 토큰은 모두 일치해야 함 ("서울 강남")
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocationRegistry {
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+
+    private final LocationRepository locationRepository;
+
+    private volatile Snapshot snapshot = Snapshot.build(List.of());
+
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    public int refresh() {
+        List<LocationResponse> locations = locationRepository.findAll().stream()
+                .map(LocationResponse::from)
+                .toList();
+        snapshot = Snapshot.build(locations);
+        log.info("[LocationRegistry] {}개 지역 로드", locations.size());
+        return locations.size();
+    }
+
+    public Optional<LocationResponse> findById(Long id) {
+        return Optional.ofNullable(snapshot.byId.get(id));
+    }
+
+    public Optional<LocationResponse> findByProvinceAndCity(String province, String city) {
+        return Optional.ofNullable(snapshot.byName.get(nameKey(province, city)));
+    }
+
+    public List<LocationResponse> search(String keyword, int limit) {
+        Snapshot current = snapshot;
+        String[] tokens = keyword == null ? new String[0] : keyword.trim().toLowerCase().split("\\s+");
+        tokens = Arrays.stream(tokens).filter(token -> !token.isEmpty()).toArray(String[]::new);
+
+        if (tokens.length == 0) {
+            return current.entries.stream().limit(limit).map(Entry::location).toList();
+        }
+
+        int[] candidates = null;
+        for (String token : tokens) {
+            int[] matched = current.candidates(token);
+            candidates = candidates == null ? matched : intersect(candidates, matched);
+            if (candidates.length == 0) {
+                return List.of();
+            }
+        }
+
+        final String[] queryTokens = tokens;
+        return Arrays.stream(candidates)
+                .mapToObj(current.entries::get)
+                .map(entry -> new Ranked(entry, score(entry, queryTokens)))
+                .filter(ranked -> ranked.score >= 0)
+                .sorted(Comparator.comparingInt(Ranked::score)
+                        .thenComparingInt(ranked -> ranked.entry.city.length())
+                        .thenComparing(ranked -> ranked.entry.location.getId()))
+                .limit(limit)
+                .map(ranked -> ranked.entry.location)
+                .toList();
+    }
+
+    // 점수가 낮을수록 상위, 토큰 하나라도 일치하지 않으면 -1
+    private static int score(Entry entry, String[] tokens) {
+        int total = 0;
+        for (String token : tokens) {
+            int best = Math.min(
+                    fieldScore(entry.city, token, 0),
+                    fieldScore(entry.province, token, 1));
+            if (best == Integer.MAX_VALUE) {
+                return -1;
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    // 완전 일치 < 접두 일치 < 중간 일치, 같은 일치 종류면 시/군/구 우선
+    private static int fieldScore(String text, String token, int fieldOrder) {
+        int index = indexOf(text, token);
+        if (index < 0) {
+            return Integer.MAX_VALUE;
+        }
+        int matchType = index == 0 ? (text.length() == token.length() ? 0 : 1) : 2;
+        return matchType * 2 + fieldOrder;
+    }
+
+    // 초성 자모는 해당 초성으로 시작하는 음절과 일치
+    private static int indexOf(String text, String token) {
+        outer:
+        for (int i = 0; i + token.length() <= text.length(); i++) {
+            for (int j = 0; j < token.length(); j++) {
+                char q = token.charAt(j);
+                char t = text.charAt(i + j);
+                if (q != t && !(isChoseong(q) && choseongOf(t) == q)) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static boolean isChoseong(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    private static char choseongOf(char c) {
+        if (c < HANGUL_BEGIN || c > HANGUL_END) {
+            return c;
+        }
+        return CHOSEONG[(c - HANGUL_BEGIN) / SYLLABLES_PER_CHOSEONG];
+    }
+
+    private static String toChoseong(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            sb.append(choseongOf(text.charAt(i)));
+        }
+        return sb.toString();
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.replaceAll("\\s+", "").toLowerCase();
+    }
+
+    private static String nameKey(String province, String city) {
+        return normalize(province) + "|" + normalize(city);
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                result[size++] = a[i];
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private record Entry(LocationResponse location, String province, String city) {
+    }
+
+    private record Ranked(Entry entry, int score) {
+    }
+
+    /**
+     * 불변 스냅샷
+     * 색인은 초성으로 변환한 문자열 기준 n-gram -> 정렬된 entry 번호 목록
+     * (초성 기준이면 일반 검색어/초성 검색어 모두 후보를 빠짐없이 찾고, 실제 일치 여부는 indexOf 로 확인)
+     */
+    private static final class Snapshot {
+
+        private final List<Entry> entries;
+        private final Map<Long, LocationResponse> byId;
+        private final Map<String, LocationResponse> byName;
+        private final Map<String, int[]> unigrams;
+        private final Map<String, int[]> bigrams;
+
+        private Snapshot(List<Entry> entries, Map<Long, LocationResponse> byId, Map<String, LocationResponse> byName,
+                         Map<String, int[]> unigrams, Map<String, int[]> bigrams) {
+            this.entries = entries;
+            this.byId = byId;
+            this.byName = byName;
+            this.unigrams = unigrams;
+            this.bigrams = bigrams;
+        }
+
+        static Snapshot build(List<LocationResponse> locations) {
+            List<Entry> entries = locations.stream()
+                    .sorted(Comparator.comparing(LocationResponse::getProvince, Comparator.nullsLast(String::compareTo))
+                            .thenComparing(LocationResponse::getCity, Comparator.nullsLast(String::compareTo)))
+                    .map(location -> new Entry(location, normalize(location.getProvince()), normalize(location.getCity())))
+                    .toList();
+
+            Map<Long, LocationResponse> byId = new HashMap<>();
+            Map<String, LocationResponse> byName = new HashMap<>();
+            Map<String, List<Integer>> unigrams = new HashMap<>();
+            Map<String, List<Integer>> bigrams = new HashMap<>();
+
+            for (int i = 0; i < entries.size(); i++) {
+                Entry entry = entries.get(i);
+                byId.put(entry.location.getId(), entry.location);
+                byName.put(nameKey(entry.location.getProvince(), entry.location.getCity()), entry.location);
+
+                for (String field : new String[]{entry.province, entry.city}) {
+                    String key = toChoseong(field);
+                    for (int k = 0; k < key.length(); k++) {
+                        addPosting(unigrams, key.substring(k, k + 1), i);
+                        if (k + 2 <= key.length()) {
+                            addPosting(bigrams, key.substring(k, k + 2), i);
+                        }
+                    }
+                }
+            }
+
+            return new Snapshot(entries, Map.copyOf(byId), Map.copyOf(byName), toArrays(unigrams), toArrays(bigrams));
+        }
+
+        // 토큰을 포함할 수 있는 entry 번호 (오름차순)
+        int[] candidates(String token) {
+            String key = toChoseong(token);
+            if (key.length() == 1) {
+                return unigrams.getOrDefault(key, new int[0]);
+            }
+
+            int[] result = null;
+            for (int k = 0; k + 2 <= key.length(); k++) {
+                int[] posting = bigrams.getOrDefault(key.substring(k, k + 2), new int[0]);
+                result = result == null ? posting : intersect(result, posting);
+                if (result.length == 0) {
+                    break;
+                }
+            }
+            return result;
+        }
+
+        private static void addPosting(Map<String, List<Integer>> index, String gram, int entryNo) {
+            List<Integer> posting = index.computeIfAbsent(gram, g -> new ArrayList<>());
+            if (posting.isEmpty() || posting.get(posting.size() - 1) != entryNo) {
+                posting.add(entryNo);
+            }
+        }
+
+        private static Map<String, int[]> toArrays(Map<String, List<Integer>> index) {
+            Map<String, int[]> result = new HashMap<>();
+            index.forEach((gram, posting) ->
+                    result.put(gram, IntStream.range(0, posting.size()).map(posting::get).toArray()));
+            return Map.copyOf(result);
+        }
+    }
+}
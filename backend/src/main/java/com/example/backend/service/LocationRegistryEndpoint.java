@@ -0,0 +1,25 @@
+package com.example.backend.service;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * POST /actuator/locations: 지역 데이터 변경 후 레지스트리 다시 로드 (로드된 지역 수 반환)
+ * 관리 포트(management.server) 에서만 열린다
+ */
+@Component
+@Endpoint(id = "locations")
+public class LocationRegistryEndpoint {
+
+    private final LocationRegistry locationRegistry;
+
+    public LocationRegistryEndpoint(LocationRegistry locationRegistry) {
+        this.locationRegistry = locationRegistry;
+    }
+
+    @WriteOperation
+    public int refresh() {
+        return locationRegistry.refresh();
+    }
+}
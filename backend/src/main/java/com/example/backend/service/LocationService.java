@@ -1,20 +1,20 @@
 package com.example.backend.service;
 
-import com.example.backend.domain.Location;
-import com.example.backend.repository.LocationRepository;
+import com.example.backend.dto.LocationResponse;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class LocationService {
 
-    private final LocationRepository locationRepository;
+    private static final int MAX_LIMIT = 50;
 
-    public List<Location> getLocationList(String keyword) {
-        return locationRepository.findAllByKeyword(keyword);
+    private final LocationRegistry locationRegistry;
+
+    // 자동완성 (DB 조회 없이 인메모리 레지스트리에서 검색)
+    public List<LocationResponse> getLocationList(String keyword, int limit) {
+        return locationRegistry.search(keyword, Math.max(1, Math.min(limit, MAX_LIMIT)));
     }
-}
\ No newline at end of file
+}
@@ -4,7 +4,9 @@ import static com.example.backend.mapper.MeetingMapper.toMeeting;
 import static com.example.backend.mapper.MeetingMapper.toMeetingDetailResponse;
 import static com.example.backend.mapper.MeetingMapper.*;
 
+import com.example.backend.common.event.MeetingChangedEvent;
 import com.example.backend.dto.ChangeMeetingStatusRequest;
+import com.example.backend.dto.KeysetPageResponse;
 import com.example.backend.enums.MeetingStatus;
 import java.util.List;
 
@@ -35,9 +37,12 @@ import com.example.backend.repository.LocationRepository;
 import com.example.backend.repository.MeetingJoinRequestRepository;
 import com.example.backend.repository.MeetingMemberRepository;
 import com.example.backend.repository.MeetingRepository;
+import com.example.backend.repository.UserActivityCounterRepository;
 import com.example.backend.repository.UserRepository;
+import com.example.backend.repository.support.KeysetCursor;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -55,6 +60,8 @@ public class MeetingService {
 	private final MeetingJoinRequestRepository meetingJoinRequestRepository;
 	private final UserRepository userRepository;
 	private final LocationRepository locationRepository;
+	private final UserActivityCounterRepository userActivityCounterRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public Long createMeeting(Long userId, MeetingCreateRequest request) {
@@ -69,7 +76,9 @@ public class MeetingService {
 
 		MeetingMember hostMember = MeetingMember.createHost(meeting, host);
 		meetingMemberRepository.save(hostMember);
+		userActivityCounterRepository.addMeetingCount(userId, 1);
 
+		publishChanged(meeting);
 		return meeting.getId();
 	}
 
@@ -91,12 +100,14 @@ public class MeetingService {
 			request.getSchedule(),
 			request.getCapacity()
 		);
+		publishChanged(meeting);
 	}
 
 	@Transactional(readOnly = true)
 	public MeetingDetailResponse getMeetingDetail(Long meetingId) {
 
-        Meeting meeting = getMeeting(meetingId);
+        Meeting meeting = meetingRepository.findDetailWithMembersById(meetingId)
+                .orElseThrow(() -> new CustomException(ErrorCode.MEETING_NOT_FOUND));
 
 		List<MeetingMemberResponse> members = meeting.getMembers().stream()
 			.map(MeetingMapper::toMeetingMemberResponse)
@@ -127,8 +138,9 @@ public class MeetingService {
 		meetingJoinRequestRepository.save(joinRequest);
 	}
 
+    // 신청 단계 사전 확인 (최종 보장은 승인 시 좌석 예약)
     private void checkMeetingCapacity(Meeting meeting) {
-        if (meetingMemberRepository.countByMeeting(meeting) >= meeting.getCapacity()) {
+        if (meeting.getMemberCount() >= meeting.getCapacity()) {
             throw new CustomException(ErrorCode.MEETING_IS_FULL);
         }
     }
@@ -137,7 +149,6 @@ public class MeetingService {
     public List<MeetingJoinRequestResponse> getJoinRequests(Long meetingId, Long hostUserId ) {
 
         Meeting meeting = getMeeting(meetingId);
-        User host = getUser(hostUserId);
 
         validateHost(meetingId, hostUserId);
 
@@ -164,9 +175,6 @@ public class MeetingService {
             throw new CustomException(ErrorCode.MEETING_RECRUITING_CLOSED);
         }
 
-
-        checkMeetingCapacity(meeting);
-
         MeetingJoinRequest request = meetingJoinRequestRepository
                 .findByIdAndMeeting(requestId, meeting)
                 .orElseThrow(() -> new CustomException(ErrorCode.MEETING_REQUEST_NOT_FOUND));
@@ -176,15 +184,17 @@ public class MeetingService {
             return;
         }
 
+        // 좌석 예약을 먼저 (멤버 insert 의 FK 공유 잠금 이후 update 하면 동시 승인끼리 교착될 수 있음)
+        if (meetingRepository.reserveSeat(meetingId) == 0) {
+            throw new CustomException(ErrorCode.MEETING_IS_FULL);
+        }
+
         request.approve();
 
         meetingMemberRepository.save(MeetingMember.createMember(meeting, request.getUser()));
-
-        int afterJoinSize = meeting.getMembers().size() + 1;
-        if (afterJoinSize >= meeting.getCapacity()) {
-            meeting.changeStatus(MeetingStatus.ACTIVE);
-        }
-
+        userActivityCounterRepository.addMeetingCount(request.getUser().getId(), 1);
+        meetingRepository.closeRecruitingIfFull(meetingId);
+        publishChanged(meeting);
     }
 
 
@@ -236,6 +246,9 @@ public class MeetingService {
         }
 
         meetingMemberRepository.delete(member);
+        meetingRepository.decreaseMemberCount(meetingId);
+        userActivityCounterRepository.addMeetingCount(member.getUser().getId(), -1);
+        publishChanged(meeting);
     }
 
     @Transactional
@@ -250,20 +263,29 @@ public class MeetingService {
         validateHost(meetingId, userId);
 
         if (request.getStatus() == MeetingStatus.RECRUITING
-                && meeting.getMembers().size() >= meeting.getCapacity()) {
+                && meeting.getMemberCount() >= meeting.getCapacity()) {
             throw new CustomException(ErrorCode.MEETING_IS_FULL);
         }
 
         meeting.changeStatus(request.getStatus());
+        publishChanged(meeting);
     }
 
+    // 커밋 후 동네 캐시 무효화
+    private void publishChanged(Meeting meeting) {
+        eventPublisher.publishEvent(new MeetingChangedEvent(meeting.getId(), meeting.getLocation().getId()));
+    }
+
+    // 쓰기/관리 경로용: meetings 행만 조회 (상태, 정원, memberCount), 멤버 목록은 필요할 때 id 로 따로 조회
     private Meeting getMeeting(Long meetingId) {
-        return meetingRepository.findDetailWithMembersById(meetingId)
+        return meetingRepository.findById(meetingId)
                 .orElseThrow(() -> new CustomException(ErrorCode.MEETING_NOT_FOUND));
     }
 
     private User getUser(Long userId) {
+        // 탈퇴 처리 중인 계정은 새 데이터를 만들 수 없다 (정리 작업과 겹치지 않도록)
         return userRepository.findById(userId)
+                .filter(user -> !user.isWithdrawn())
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
     }
 
@@ -280,8 +302,22 @@ public class MeetingService {
 		return meetingRepository.findMeetingList(condition, pageable);
 	}
 
+	public KeysetPageResponse<MeetingListResponse> getMeetingListByCursor(
+		MeetingSearchCondition condition,
+		String cursor,
+		int size) {
+
+		KeysetPageResponse.validateSize(size);
+
+		List<MeetingListResponse> items =
+			meetingRepository.findMeetingListByCursor(condition, KeysetCursor.decode(cursor), size + 1);
+
+		return KeysetPageResponse.of(items, size,
+			item -> KeysetCursor.of(item.getCreatedAt(), item.getMeetingId()));
+	}
+
 	private void validateHost(Long meetingId, Long userId) {
-		if (!meetingMemberRepository.existsByMeetingIdAndUserIdAndRole(
+		if (!meetingMemberRepository.existsByMeetingIdAndUserIdAndRoleAndUserWithdrawnAtIsNull(
 			meetingId, userId, ParticipantRole.HOST)) {
 			throw new CustomException(ErrorCode.MEETING_HOST_ONLY);
 		}
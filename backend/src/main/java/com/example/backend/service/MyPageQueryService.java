@@ -1,12 +1,18 @@
 package com.example.backend.service;
 
 import com.example.backend.dto.CursorPageResponse;
+import com.example.backend.dto.KeysetPageResponse;
+import com.example.backend.dto.MyActivityItemDto;
 import com.example.backend.dto.MyEventItemDto;
 import com.example.backend.dto.MyMeetingItemDto;
 import com.example.backend.dto.MyQuestionItemDto;
+import com.example.backend.enums.ActivityType;
 import com.example.backend.repository.EventRepository;
 import com.example.backend.repository.MeetingRepository;
 import com.example.backend.repository.QuestionRepository;
+import com.example.backend.repository.support.ActivityCursor;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -40,4 +46,83 @@ public class MyPageQueryService {
         return CursorPageResponse.of(items, size);
     }
 
+    /**
+     * 모임 참여 / 이벤트 참여 / 질문 작성을 시각 역순으로 합친 활동 타임라인
+     * - 소스마다 커서 다음 size + 1 건만 (시각 desc, id desc) 로 가져와 앞에서부터 3-way merge
+     * - 같은 시각이면 ActivityType 선언 역순, 그다음 id 역순 (ActivityCursor.after 와 같은 순서)
+     */
+    public KeysetPageResponse<MyActivityItemDto> getMyActivity(Long userId, String cursor, int size) {
+        KeysetPageResponse.validateSize(size);
+        ActivityCursor after = ActivityCursor.decode(cursor);
+
+        List<MyMeetingItemDto> meetings = meetingRepository.findMyMeetingTimeline(userId, after, size + 1);
+        List<MyEventItemDto> events = eventRepository.findMyEventTimeline(userId, after, size + 1);
+        List<MyQuestionItemDto> questions = questionRepository.findMyQuestionTimeline(userId, after, size + 1);
+
+        List<MyActivityItemDto> items = new ArrayList<>(size);
+        int meetingIndex = 0;
+        int eventIndex = 0;
+        int questionIndex = 0;
+
+        while (items.size() < size) {
+            ActivityType next = null;
+            LocalDateTime nextAt = null;
+            Long nextId = null;
+
+            if (meetingIndex < meetings.size()) {
+                MyMeetingItemDto meeting = meetings.get(meetingIndex);
+                next = ActivityType.MEETING;
+                nextAt = meeting.getJoinedAt();
+                nextId = meeting.getMeetingId();
+            }
+            if (eventIndex < events.size()) {
+                MyEventItemDto event = events.get(eventIndex);
+                if (next == null || precedes(event.getJoinedAt(), ActivityType.EVENT, event.getEventId(), nextAt, next, nextId)) {
+                    next = ActivityType.EVENT;
+                    nextAt = event.getJoinedAt();
+                    nextId = event.getEventId();
+                }
+            }
+            if (questionIndex < questions.size()) {
+                MyQuestionItemDto question = questions.get(questionIndex);
+                if (next == null || precedes(question.getCreatedAt(), ActivityType.QUESTION, question.getQuestionId(), nextAt, next, nextId)) {
+                    next = ActivityType.QUESTION;
+                }
+            }
+
+            if (next == null) {
+                break;
+            }
+            switch (next) {
+                case MEETING -> items.add(MyActivityItemDto.of(meetings.get(meetingIndex++)));
+                case EVENT -> items.add(MyActivityItemDto.of(events.get(eventIndex++)));
+                case QUESTION -> items.add(MyActivityItemDto.of(questions.get(questionIndex++)));
+            }
+        }
+
+        boolean hasNext = meetingIndex < meetings.size()
+                || eventIndex < events.size()
+                || questionIndex < questions.size();
+        String nextCursor = items.isEmpty()
+                ? null
+                : items.get(items.size() - 1).toCursor().encode();
+
+        return new KeysetPageResponse<>(items, nextCursor, hasNext);
+    }
+
+    // (at, type, id) 가 (otherAt, otherType, otherId) 보다 타임라인에서 앞인지
+    private static boolean precedes(
+            LocalDateTime at, ActivityType type, Long id,
+            LocalDateTime otherAt, ActivityType otherType, Long otherId
+    ) {
+        int compared = at.compareTo(otherAt);
+        if (compared != 0) {
+            return compared > 0;
+        }
+        compared = Integer.compare(type.ordinal(), otherType.ordinal());
+        if (compared != 0) {
+            return compared > 0;
+        }
+        return id > otherId;
+    }
 }
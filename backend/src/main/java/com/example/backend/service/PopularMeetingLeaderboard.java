@@ -0,0 +1,245 @@
+package com.example.backend.service;
+
+import com.example.backend.common.event.MeetingChangedEvent;
+import com.example.backend.dto.MeetingRankRow;
+import com.example.backend.dto.PopularMeetingDto;
+import com.example.backend.enums.MeetingStatus;
+import com.example.backend.repository.MeetingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 동네별 인기 모임 순위 (모집 중 모임만, 인원 desc -> 최신순 -> id desc)
+ * - 시작 시 DB 에서 전체 재구성, 이후 모임 변경 이벤트(생성/수정/상태 변경/승인/강퇴/탈퇴) 커밋 후
+ *   해당 모임 한 건만 다시 읽어 반영한다 (증감을 직접 계산하지 않으므로 누적 오차 없음)
+ * - 조회는 정렬된 집합의 앞 K 개만 읽는다 (O(K))
+ * - 같은 모임의 reload 가 겹치면 가장 늦게 시작한 것만 반영 (먼저 읽은 이전 값이 나중에 덮어쓰지 않도록)
+ * - 주기적으로 SQL 결과(findPopularMeetings)와 비교해 다르면 해당 동네만 재구성
+ * - 준비 전에는 SQL 로 조회, 재구성 중 커밋된 변경은 모아 두었다가 재구성 직후 다시 읽어 반영
+ */
+@Slf4j
+@Component
+public class PopularMeetingLeaderboard {
+
+    private static final Comparator<Rank> ORDER = Comparator
+            .comparingInt(Rank::memberCount).reversed()
+            .thenComparing(Rank::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Rank::meetingId, Comparator.reverseOrder());
+
+    private final MeetingRepository meetingRepository;
+    private final Counter mismatchCounter;
+    private final int verifyTopK;
+
+    private final Map<Long, ConcurrentSkipListSet<Rank>> boards = new ConcurrentHashMap<>();
+    // meetingId -> 현재 순위 항목 (제거/갱신 시 이전 항목을 찾기 위해)
+    private final Map<Long, Rank> entries = new ConcurrentHashMap<>();
+    // reload 순번: meetingId -> 진행 중인 reload 중 가장 늦게 시작한 순번
+    private final AtomicLong reloadSequence = new AtomicLong();
+    private final Map<Long, Long> pendingReloads = new ConcurrentHashMap<>();
+    // 준비 전(재구성 중) 에 변경된 모임 id
+    private final Set<Long> changedBeforeReady = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean ready = false;
+
+    public PopularMeetingLeaderboard(
+            MeetingRepository meetingRepository,
+            MeterRegistry meterRegistry,
+            @Value("${leaderboard.popular-meetings.verify-top-k:10}") int verifyTopK
+    ) {
+        this.meetingRepository = meetingRepository;
+        this.verifyTopK = verifyTopK;
+        this.mismatchCounter = Counter.builder("leaderboard.popular_meetings.mismatch")
+                .description("인기 모임 순위와 SQL 결과가 달라 재구성한 횟수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // 웹 요청은 준비 이벤트 전에도 들어오므로, 읽는 동안의 변경은 onMeetingChanged 가 모아 둔다
+        synchronized (this) {
+            ready = false;
+            changedBeforeReady.clear();
+        }
+
+        List<MeetingRankRow> rows = meetingRepository.findRecruitingRankRows(null);
+        List<Long> changed;
+        synchronized (this) {
+            boards.clear();
+            entries.clear();
+            rows.forEach(this::put);
+            ready = true;
+            changed = new ArrayList<>(changedBeforeReady);
+            changedBeforeReady.clear();
+        }
+
+        // 읽기 전에 커밋됐는지 알 수 없으므로 다시 읽어 반영 (겹치는 reload 는 순번으로 정리)
+        changed.forEach(this::reload);
+        log.info("[PopularMeetingLeaderboard] 모집 중 모임 {}건 로드, 재구성 중 변경 {}건 반영", rows.size(), changed.size());
+    }
+
+    public List<PopularMeetingDto> top(Long townId, int limit) {
+        if (!ready) {
+            return meetingRepository.findPopularMeetings(townId, limit);
+        }
+
+        Set<Rank> board = boards.get(townId);
+        if (board == null) {
+            return List.of();
+        }
+        return board.stream()
+                .limit(limit)
+                .map(Rank::toDto)
+                .toList();
+    }
+
+    // 대시보드 캐시 무효화보다 먼저 반영되도록 우선 실행
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        if (!ready) {
+            synchronized (this) {
+                if (!ready) {
+                    changedBeforeReady.add(event.getMeetingId());
+                    return;
+                }
+            }
+        }
+        reload(event.getMeetingId());
+    }
+
+    // 모임 한 건을 DB 에서 다시 읽어 반영 (삭제/모집 종료면 제거)
+    public void reload(Long meetingId) {
+        long version = reloadSequence.incrementAndGet();
+        pendingReloads.merge(meetingId, version, Math::max);
+
+        MeetingRankRow row = meetingRepository.findRankRow(meetingId).orElse(null);
+        synchronized (this) {
+            // 뒤에 시작한 reload 가 있으면 그쪽이 더 최신 값을 읽으므로 쓰지 않는다
+            if (!pendingReloads.remove(meetingId, version)) {
+                return;
+            }
+            remove(meetingId);
+            if (row != null) {
+                put(row);
+            }
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${leaderboard.popular-meetings.verify-initial-delay-ms:600000}",
+            fixedDelayString = "${leaderboard.popular-meetings.verify-interval-ms:600000}"
+    )
+    public void verify() {
+        if (!ready) {
+            return;
+        }
+
+        for (Long townId : boards.keySet()) {
+            if (!isConsistent(townId)) {
+                mismatchCounter.increment();
+                log.warn("[PopularMeetingLeaderboard] townId={} SQL 결과와 불일치, 재구성", townId);
+                rebuildTown(townId);
+            }
+        }
+    }
+
+    public boolean isConsistent(Long townId) {
+        List<PopularMeetingDto> expected = meetingRepository.findPopularMeetings(townId, verifyTopK);
+        List<PopularMeetingDto> actual = top(townId, verifyTopK);
+
+        if (expected.size() != actual.size()) {
+            return false;
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            if (!expected.get(i).getId().equals(actual.get(i).getId())
+                    || expected.get(i).getMembers() != actual.get(i).getMembers()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rebuildTown(Long townId) {
+        long since = reloadSequence.get();
+        List<MeetingRankRow> rows = meetingRepository.findRecruitingRankRows(townId);
+        synchronized (this) {
+            // 읽는 사이 반영된 reload 를 이전 값으로 되돌리지 않도록 이번에는 건너뛰고 다음 검증에서 다시 비교
+            if (reloadSequence.get() != since) {
+                return;
+            }
+            ConcurrentSkipListSet<Rank> board = boards.remove(townId);
+            if (board != null) {
+                board.forEach(rank -> entries.remove(rank.meetingId()));
+            }
+            rows.forEach(this::put);
+        }
+    }
+
+    // synchronized 블록 안에서만 호출
+    private void put(MeetingRankRow row) {
+        if (row.getStatus() != MeetingStatus.RECRUITING || row.getLocationId() == null) {
+            return;
+        }
+        Rank rank = Rank.from(row);
+        boards.computeIfAbsent(rank.townId(), id -> new ConcurrentSkipListSet<>(ORDER)).add(rank);
+        entries.put(rank.meetingId(), rank);
+    }
+
+    private void remove(Long meetingId) {
+        Rank previous = entries.remove(meetingId);
+        if (previous == null) {
+            return;
+        }
+        ConcurrentSkipListSet<Rank> board = boards.get(previous.townId());
+        if (board != null) {
+            board.remove(previous);
+            if (board.isEmpty()) {
+                boards.remove(previous.townId());
+            }
+        }
+    }
+
+    private record Rank(
+            Long meetingId,
+            Long townId,
+            String title,
+            String category,
+            int memberCount,
+            int capacity,
+            LocalDateTime createdAt
+    ) {
+        static Rank from(MeetingRankRow row) {
+            return new Rank(
+                    row.getId(),
+                    row.getLocationId(),
+                    row.getTitle(),
+                    row.getCategory() != null ? row.getCategory().name() : null,
+                    row.getMemberCount(),
+                    row.getCapacity(),
+                    row.getCreatedAt());
+        }
+
+        PopularMeetingDto toDto() {
+            return new PopularMeetingDto(meetingId, title, category, memberCount, capacity);
+        }
+    }
+}
@@ -1,26 +1,34 @@
 package com.example.backend.service;
 
 
+import com.example.backend.common.event.QuestionChangedEvent;
 import com.example.backend.domain.Location;
 import com.example.backend.domain.Question;
 import com.example.backend.domain.User;
+import com.example.backend.dto.KeysetPageResponse;
 import com.example.backend.dto.QuestionCreateRequest;
 import com.example.backend.dto.QuestionResponseRequest;
 import com.example.backend.dto.QuestionSearchRequest;
 import com.example.backend.dto.QuestionUpdateRequest;
 import com.example.backend.enums.QuestionCategory;
+import com.example.backend.enums.QuestionSortType;
 import com.example.backend.global.exception.custom.CustomException;
 import com.example.backend.global.exception.custom.ErrorCode;
 import com.example.backend.repository.LocationRepository;
 import com.example.backend.repository.AnswerRepository;
 import com.example.backend.repository.QuestionRepository;
+import com.example.backend.repository.UserActivityCounterRepository;
 import com.example.backend.repository.UserRepository;
+import com.example.backend.repository.support.KeysetCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.stereotype.Service;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 
 
 
@@ -33,12 +41,17 @@ public class QuestionService {
     private final QuestionRepository questionRepository;
     private final UserRepository userRepository;
     private final LocationRepository locationRepository;
+    private final QuestionViewCountBuffer viewCountBuffer;
+    private final QuestionTrendingScore trendingScore;
+    private final UserActivityCounterRepository userActivityCounterRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 질문 등록
     @Transactional
     public Long createQuestion(Long userId, QuestionCreateRequest request) {
 
         User user = userRepository.findById(userId)
+                .filter(found -> !found.isWithdrawn())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자"));
 
 
@@ -48,10 +61,13 @@ public class QuestionService {
                 .questionCategory(request.getQuestionCategory())
                 .user(user)
                 .location(user.getLocation())
+                .trendingScore(trendingScore.initialScore(LocalDateTime.now()))
                 .build();
 
         questionRepository.save(question);
+        userActivityCounterRepository.addQuestionCount(userId, 1);
 
+        publishChanged(question);
         return question.getId();
 
     }
@@ -65,30 +81,64 @@ public class QuestionService {
          Page<Question> questions =
                  questionRepository.search(request, pageable);
 
-         return questions.map(QuestionResponseRequest::new);
+         Page<QuestionResponseRequest> page = questions.map(QuestionResponseRequest::new);
+         viewCountBuffer.mergeInto(page.getContent());
+         return page;
      }
 
+    // 질문 목록 조회 (keyset 커서)
+    public KeysetPageResponse<QuestionResponseRequest> getQuestionsByCursor(
+            QuestionSearchRequest request,
+            String sort,
+            String cursor,
+            int size
+    ) {
+        KeysetPageResponse.validateSize(size);
+        QuestionSortType sortType = QuestionSortType.from(sort);
+
+        List<Question> questions = new ArrayList<>(questionRepository
+                .searchByCursor(request, sortType, KeysetCursor.decode(cursor), size + 1));
+
+        // 커서는 DB 값(엔티티) 기준, 미반영 조회수는 응답에만 합산
+        KeysetPageResponse<Question> page = KeysetPageResponse.of(questions, size,
+                question -> switch (sortType) {
+                    case POPULAR -> KeysetCursor.of(question.getViewCount(), question.getId());
+                    case TRENDING -> KeysetCursor.of(question.getTrendingScore(), question.getId());
+                    case LATEST -> KeysetCursor.of(question.getCreatedAt(), question.getId());
+                });
+
+        List<QuestionResponseRequest> items = page.getItems().stream()
+                .map(QuestionResponseRequest::new)
+                .toList();
+        viewCountBuffer.mergeInto(items);
+        return new KeysetPageResponse<>(items, page.getNextCursor(), page.isHasNext());
+    }
+
 
 
     // 질문 상세
 
     public QuestionResponseRequest getQuestionData(Long questionId) {
-        Question question = questionRepository.findById(questionId)
+        Question question = questionRepository.findWithUserById(questionId)
                 .orElseThrow(() -> new IllegalArgumentException("질문이 존재하지 않음"));
 
-        return new QuestionResponseRequest(question);
+        QuestionResponseRequest response = new QuestionResponseRequest(question);
+        viewCountBuffer.mergeInto(response);
+        return response;
     }
 
     /**
-     * 조회수 1 증가
+     * 조회수 1 증가 (버퍼에 누적, DB 반영은 QuestionViewCountBuffer 가 주기적으로 처리)
      */
-    @Transactional
     public QuestionResponseRequest incrementQuestionViews(Long questionId) {
-        questionRepository.increaseViewCount(questionId); // 쿼리에서 update 실행
-        Question question = questionRepository.findById(questionId)
+        Question question = questionRepository.findWithUserById(questionId)
                 .orElseThrow(() -> new IllegalArgumentException("질문이 존재하지 않음"));
 
-        return new QuestionResponseRequest(question);
+        viewCountBuffer.increment(questionId);
+
+        QuestionResponseRequest response = new QuestionResponseRequest(question);
+        viewCountBuffer.mergeInto(response);
+        return response;
     }
 
 
@@ -104,6 +154,7 @@ public class QuestionService {
         // }
 
         question.update(request.getQuestionCategory(), request.getTitle(), request.getContent());
+        publishChanged(question);
     }
 
 
@@ -120,5 +171,14 @@ public class QuestionService {
         // }
 
         questionRepository.delete(question);
+        userActivityCounterRepository.addQuestionCount(question.getUser().getId(), -1);
+        publishChanged(question);
+    }
+
+    // 커밋 후 동네 캐시 무효화
+    private void publishChanged(Question question) {
+        if (question.getLocation() != null) {
+            eventPublisher.publishEvent(new QuestionChangedEvent(question.getId(), question.getLocation().getId()));
+        }
     }
 }
\ No newline at end of file
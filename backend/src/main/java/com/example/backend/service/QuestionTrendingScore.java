@@ -0,0 +1,140 @@
+package com.example.backend.service;
+
+import com.example.backend.scheduler.SchedulerLease;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 질문 트렌딩 점수 (시간 감쇠 인기도)
+ * - 조회/답변 한 건의 현재 가치 = weight * 2^(-경과시간 / 반감기)
+ * - 감쇠는 모든 질문에 같은 비율로 적용되므로, 고정 기준 시각(EPOCH)으로 환산한 로그 값
+ *   ln(Σ weight * e^(λ(t - EPOCH))) 을 저장하면 시간이 지나도 순서가 바뀌지 않는다
+ *   -> questions.trending_score 컬럼 + (trending_score, id) 인덱스로 keyset 페이지 가능, 주기적 재계산 불필요
+ * - 이벤트가 들어오면 log-sum-exp 로 누적: s = max(s, x) + ln(1 + e^(-|s - x|))
+ * - 반감기를 바꾸면 기존 점수와 단위가 달라지므로 trending_score 를 0 으로 초기화해 다시 채운다
+ * - 초기화(backfill) 는 SchedulerLease 로 한 노드만 수행, 다 채운 뒤에는 0 인 행이 없어 인덱스 조회 한 번으로 끝난다
+ */
+@Slf4j
+@Component
+public class QuestionTrendingScore {
+
+    // 로그 값 누적 (DB 에서 계산해 동시 갱신도 행 잠금 한 번으로 끝남), 조회수 버퍼와 답변 등록이 함께 쓰는 유일한 식
+    static final String ACCUMULATE_SQL =
+            "greatest(trending_score, ?) + ln(1 + exp(-abs(trending_score - ?)))";
+    static final String ACCUMULATE_UPDATE =
+            "update questions set trending_score = " + ACCUMULATE_SQL + " where id = ?";
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final int BACKFILL_CHUNK_SIZE = 500;
+    private static final String BACKFILL_LOCK_NAME = "question-trending-backfill";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SchedulerLease schedulerLease;
+    private final Duration backfillLease;
+    private final double lambda;
+    private final double viewWeight;
+    private final double answerWeight;
+
+    public QuestionTrendingScore(
+            JdbcTemplate jdbcTemplate,
+            SchedulerLease schedulerLease,
+            @Value("${question.trending.half-life-hours:24}") double halfLifeHours,
+            @Value("${question.trending.view-weight:1}") double viewWeight,
+            @Value("${question.trending.answer-weight:5}") double answerWeight,
+            @Value("${question.trending.backfill-lease-seconds:1800}") long backfillLeaseSeconds
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.schedulerLease = schedulerLease;
+        this.backfillLease = Duration.ofSeconds(backfillLeaseSeconds);
+        this.lambda = Math.log(2) / (halfLifeHours * 3600);
+        this.viewWeight = viewWeight;
+        this.answerWeight = answerWeight;
+    }
+
+    // 새 질문: 조회 1회 가치로 시작
+    public double initialScore(LocalDateTime createdAt) {
+        return logValue(viewWeight, createdAt);
+    }
+
+    // 지금 조회 views 회의 로그 값 (QuestionViewCountBuffer flush 에서 사용)
+    public double viewsNow(long views) {
+        return logValue(viewWeight * views, LocalDateTime.now());
+    }
+
+    // 답변 등록 트랜잭션 안에서 호출 (JdbcTemplate 도 같은 트랜잭션 커넥션을 쓴다)
+    public void recordAnswer(Long questionId) {
+        double value = logValue(answerWeight, LocalDateTime.now());
+        jdbcTemplate.update(ACCUMULATE_UPDATE, value, value, questionId);
+    }
+
+    /**
+     * 컬럼 추가 전부터 있던 질문(trending_score = 0) 채우기
+     * 지금까지의 조회/답변이 작성 시점에 모두 일어났다고 보고 계산한다
+     * 다른 노드가 채우는 중이면 건너뛴다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!schedulerLease.tryAcquire(BACKFILL_LOCK_NAME, backfillLease)) {
+            return;
+        }
+
+        try {
+            int filled = fillZeroScores();
+            if (filled > 0) {
+                log.info("[QuestionTrendingScore] 기존 질문 {}건 트렌딩 점수 초기화", filled);
+            }
+        } finally {
+            schedulerLease.release(BACKFILL_LOCK_NAME);
+        }
+    }
+
+    private int fillZeroScores() {
+        long lastId = 0;
+        int filled = 0;
+
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(
+                    "select q.id, q.created_at, q.view_count, "
+                            + "(select count(*) from answers a where a.question_id = q.id) "
+                            + "from questions q where q.trending_score = 0 and q.id > ? order by q.id limit ?",
+                    (rs, rowNum) -> new Object[]{
+                            rs.getLong(1),
+                            rs.getObject(2, LocalDateTime.class),
+                            rs.getLong(3),
+                            rs.getLong(4)
+                    },
+                    lastId, BACKFILL_CHUNK_SIZE);
+
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> updates = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                LocalDateTime createdAt = row[1] != null ? (LocalDateTime) row[1] : EPOCH;
+                double weight = viewWeight * (1 + (Long) row[2]) + answerWeight * (Long) row[3];
+                updates.add(new Object[]{logValue(weight, createdAt), row[0]});
+            }
+            jdbcTemplate.batchUpdate(
+                    "update questions set trending_score = ? where id = ? and trending_score = 0", updates);
+
+            filled += rows.size();
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+        return filled;
+    }
+
+    // ln(weight) + λ(t - EPOCH)
+    double logValue(double weight, LocalDateTime at) {
+        double seconds = Duration.between(EPOCH, at).toMillis() / 1000.0;
+        return Math.log(weight) + lambda * seconds;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.QuestionResponseRequest;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 질문 조회수 write-behind 버퍼
+ * - 조회 요청은 메모리의 LongAdder 만 증가 (hot row 잠금 없음)
+ * - 주기적으로 모인 증가분을 questions.view_count 에 batch update (트렌딩 점수도 함께 누적)
+ * - 응답에는 아직 반영 전인 증가분을 더해서 내려준다
+ * - 종료 시 남은 증가분 flush (비정상 종료 시 마지막 주기분은 유실될 수 있음)
+ */
+@Slf4j
+@Component
+public class QuestionViewCountBuffer {
+
+    private static final String FLUSH_SQL =
+            "update questions set view_count = view_count + ?, trending_score = "
+                    + QuestionTrendingScore.ACCUMULATE_SQL + " where id = ?";
+    private static final int BATCH_SIZE = 500;
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // drain 에서만 접근 (synchronized)
+    private final Map<Long, LongAdder> retired = new HashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final QuestionTrendingScore trendingScore;
+
+    public QuestionViewCountBuffer(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            QuestionTrendingScore trendingScore
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.trendingScore = trendingScore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void increment(Long questionId) {
+        pending.computeIfAbsent(questionId, id -> new LongAdder()).increment();
+    }
+
+    public long pendingOf(Long questionId) {
+        LongAdder adder = pending.get(questionId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    // 응답 DTO 에 미반영 증가분 합산
+    public void mergeInto(Collection<QuestionResponseRequest> questions) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        questions.forEach(this::mergeInto);
+    }
+
+    public void mergeInto(QuestionResponseRequest question) {
+        long delta = pendingOf(question.getId());
+        if (delta > 0) {
+            question.setViews((int) Math.min(Integer.MAX_VALUE, question.getViews() + delta));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${question.view-count.flush-interval-ms:3000}")
+    public void flush() {
+        List<Object[]> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(FLUSH_SQL, deltas, BATCH_SIZE, (ps, delta) -> {
+                        double views = trendingScore.viewsNow((Long) delta[0]);
+                        ps.setLong(1, (Long) delta[0]);
+                        ps.setDouble(2, views);
+                        ps.setDouble(3, views);
+                        ps.setLong(4, (Long) delta[1]);
+                    }));
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도하도록 되돌려 놓음
+            deltas.forEach(delta -> pending.computeIfAbsent((Long) delta[1], id -> new LongAdder())
+                    .add((Long) delta[0]));
+            log.warn("[조회수 flush 실패] questions={}", deltas.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // {delta, questionId} 목록, id 순으로 정렬해 다른 인스턴스와의 잠금 순서를 맞춘다
+    private synchronized List<Object[]> drain() {
+        Map<Long, Long> totals = new TreeMap<>();
+
+        // 지난 주기에 정리한 adder: 정리 직전에 참조를 얻은 increment 가 뒤늦게 더한 값을 회수
+        retired.forEach((questionId, adder) -> addDelta(totals, questionId, adder.sumThenReset()));
+        retired.clear();
+
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                addDelta(totals, entry.getKey(), delta);
+            } else if (pending.remove(entry.getKey(), entry.getValue())) {
+                // 한 주기 동안 조회가 없던 항목은 정리 (맵이 무한히 커지지 않도록), 다음 주기까지만 보관
+                retired.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        List<Object[]> deltas = new ArrayList<>(totals.size());
+        totals.forEach((questionId, delta) -> deltas.add(new Object[]{delta, questionId}));
+        return deltas;
+    }
+
+    private static void addDelta(Map<Long, Long> totals, Long questionId, long delta) {
+        if (delta > 0) {
+            totals.merge(questionId, delta, Long::sum);
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.example.backend.service;
 
+import com.example.backend.common.event.EventsClosedEvent;
+import com.example.backend.common.event.TownContentChangedEvent;
 import com.example.backend.domain.Location;
+import com.example.backend.dto.LatestQuestionDto;
+import com.example.backend.dto.PopularMeetingDto;
 import com.example.backend.dto.TownDashboardResponse;
 import com.example.backend.dto.TownStatsDto;
+import com.example.backend.dto.UpcomingEventDto;
 import com.example.backend.global.exception.custom.CustomException;
 import com.example.backend.global.exception.custom.ErrorCode;
 import com.example.backend.repository.EventRepository;
@@ -10,44 +15,243 @@ import com.example.backend.repository.LocationRepository;
 import com.example.backend.repository.MeetingRepository;
 import com.example.backend.repository.QuestionRepository;
 import com.example.backend.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * 동네 대시보드
+ * 동네별 스냅샷을 캐시하고, 만료 전에 백그라운드로 미리 갱신(refresh-ahead)한다.
+ * - 같은 동네의 동시 cold miss 는 Caffeine 이 한 번만 로드 (single-flight)
+ * - 모임/이벤트/질문 변경 커밋 시 해당 동네 스냅샷 무효화
+ * - 부분 결과(partial)는 캐시하지 않는다
+ * 로드 시 6개의 독립 쿼리를 dashboardExecutor 에서 병렬로 실행한다.
+ * - 하위 쿼리마다 별도 읽기 전용 트랜잭션(= 별도 커넥션) + 타임아웃
+ * - 실패/타임아웃 항목은 기본값(0, 빈 목록)으로 채우고 partial = true
+ * - 호출 스레드는 트랜잭션을 열지 않는다 (커넥션을 쥔 채 하위 쿼리를 기다리지 않도록)
+ * - 하위 쿼리 Timer 는 (query, outcome) 별로 처음 쓸 때 한 번만 등록, percentile histogram 은 success 에만
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class TownDashboardService {
 
+    private static final String QUERY_METRIC = "town.dashboard.query";
+
     private final LocationRepository locationRepository;
     private final MeetingRepository meetingQueryRepository;
     private final EventRepository eventQueryRepository;
     private final QuestionRepository questionQueryRepository;
     private final UserRepository userRepository;
+    private final PopularMeetingLeaderboard popularMeetingLeaderboard;
+    private final ThreadPoolTaskExecutor dashboardExecutor;
+    private final TransactionTemplate readOnlyTx;
+    private final MeterRegistry meterRegistry;
+    private final long queryTimeoutMs;
+    private final LoadingCache<Long, TownDashboardResponse> snapshots;
+    private final Map<String, QueryTimers> timers = new ConcurrentHashMap<>();
+
+    public TownDashboardService(
+            LocationRepository locationRepository,
+            MeetingRepository meetingQueryRepository,
+            EventRepository eventQueryRepository,
+            QuestionRepository questionQueryRepository,
+            UserRepository userRepository,
+            PopularMeetingLeaderboard popularMeetingLeaderboard,
+            @Qualifier("dashboardExecutor") ThreadPoolTaskExecutor dashboardExecutor,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${dashboard.query-timeout-ms:1500}") long queryTimeoutMs,
+            @Value("${dashboard.cache.max-size:2000}") long cacheMaxSize,
+            @Value("${dashboard.cache.expire-seconds:120}") long cacheExpireSeconds,
+            @Value("${dashboard.cache.refresh-seconds:30}") long cacheRefreshSeconds
+    ) {
+        this.locationRepository = locationRepository;
+        this.meetingQueryRepository = meetingQueryRepository;
+        this.eventQueryRepository = eventQueryRepository;
+        this.questionQueryRepository = questionQueryRepository;
+        this.userRepository = userRepository;
+        this.popularMeetingLeaderboard = popularMeetingLeaderboard;
+        this.dashboardExecutor = dashboardExecutor;
+        this.meterRegistry = meterRegistry;
+        this.queryTimeoutMs = queryTimeoutMs;
+
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        // 타임아웃이 지난 쿼리가 커넥션을 계속 잡고 있지 않도록 statement 타임아웃도 함께 건다
+        this.readOnlyTx.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(queryTimeoutMs) + 1));
+
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheExpireSeconds))
+                .refreshAfterWrite(Duration.ofSeconds(cacheRefreshSeconds))
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public TownDashboardResponse load(Long townId) {
+                        return loadDashboard(townId);
+                    }
+
+                    // 백그라운드 갱신 결과가 부분 결과면 기존 스냅샷 유지
+                    @Override
+                    public TownDashboardResponse reload(Long townId, TownDashboardResponse oldValue) {
+                        TownDashboardResponse reloaded = loadDashboard(townId);
+                        return reloaded.isPartial() ? oldValue : reloaded;
+                    }
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "townDashboard");
+    }
 
     public TownDashboardResponse getDashboard(Long townId) {
+        TownDashboardResponse dashboard = snapshots.get(townId);
+        if (dashboard.isPartial()) {
+            // 다음 요청에서 다시 로드하도록 부분 결과는 바로 버린다
+            snapshots.asMap().remove(townId, dashboard);
+        }
+        return dashboard;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTownContentChanged(TownContentChangedEvent event) {
+        if (event.getLocationId() != null) {
+            snapshots.invalidate(event.getLocationId());
+        }
+    }
+
+    // 마감 배치: chunk 에 섞인 동네마다 한 번씩
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventsClosed(EventsClosedEvent event) {
+        snapshots.invalidateAll(event.getLocationIds());
+    }
+
+    private TownDashboardResponse loadDashboard(Long townId) {
 
         Location location = locationRepository.findById(townId)
                 .orElseThrow(() -> new CustomException(ErrorCode.LOCATION_NOT_FOUND));
 
+        AtomicBoolean partial = new AtomicBoolean(false);
+
+        CompletableFuture<Long> activeMeetings = query("activeMeetings", partial, 0L,
+                () -> meetingQueryRepository.countActiveMeetings(townId));
+        CompletableFuture<Long> upcomingEventCount = query("upcomingEventCount", partial, 0L,
+                () -> eventQueryRepository.countActiveEvents(townId));
+        CompletableFuture<Long> totalQuestions = query("totalQuestions", partial, 0L,
+                () -> questionQueryRepository.countByTown(townId));
+        CompletableFuture<Long> activeUsers = query("activeUsers", partial, 0L,
+                () -> userRepository.countUserByLocation(location));
+        // 인메모리 순위 (DB 조회 없음)
+        List<PopularMeetingDto> popularMeetings = popularMeetingLeaderboard.top(townId, 3);
+        CompletableFuture<List<UpcomingEventDto>> upcomingEvents = query("upcomingEvents", partial, List.of(),
+                () -> eventQueryRepository.findUpcomingEvents(townId, 3));
+        CompletableFuture<List<LatestQuestionDto>> latestQuestions = query("latestQuestions", partial, List.of(),
+                () -> questionQueryRepository.findLatestQuestions(townId, 3));
+
+        // 모든 future 는 fallback 으로 정상 완료되므로 join 은 예외를 던지지 않는다
         TownStatsDto stats = TownStatsDto.builder()
-                .activeMeetings(meetingQueryRepository.countActiveMeetings(townId))
-                .upcomingEvents(eventQueryRepository.countActiveEvents(townId))
-                .totalQuestions(questionQueryRepository.countByTown(townId))
-                .activeUsers(userRepository.countUserByLocation(location))
+                .activeMeetings(activeMeetings.join())
+                .upcomingEvents(upcomingEventCount.join())
+                .totalQuestions(totalQuestions.join())
+                .activeUsers(activeUsers.join())
                 .build();
 
         return TownDashboardResponse.builder()
                 .stats(stats)
-                .popularMeetings(
-                        meetingQueryRepository.findPopularMeetings(townId, 3)
-                )
-                .upcomingEvents(
-                        eventQueryRepository.findUpcomingEvents(townId, 3)
-                )
-                .latestQuestions(
-                        questionQueryRepository.findLatestQuestions(townId, 3)
-                )
+                .popularMeetings(popularMeetings)
+                .upcomingEvents(upcomingEvents.join())
+                .latestQuestions(latestQuestions.join())
+                .partial(partial.get())
                 .build();
     }
-}
\ No newline at end of file
+
+    private <T> CompletableFuture<T> query(String name, AtomicBoolean partial, T fallback, Supplier<T> query) {
+        QueryTimers queryTimers = timers.computeIfAbsent(name, QueryTimers::new);
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> readOnlyTx.execute(status -> query.get()), dashboardExecutor);
+        } catch (RuntimeException e) {
+            // executor 큐가 가득 찬 경우
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        return future
+                .orTimeout(queryTimeoutMs, TimeUnit.MILLISECONDS)
+                .handle((result, ex) -> {
+                    if (ex == null) {
+                        sample.stop(queryTimers.get(QueryOutcome.SUCCESS));
+                        return result != null ? result : fallback;
+                    }
+
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    QueryOutcome outcome = cause instanceof TimeoutException ? QueryOutcome.TIMEOUT : QueryOutcome.ERROR;
+                    sample.stop(queryTimers.get(outcome));
+                    partial.set(true);
+                    log.warn("[대시보드] {} 조회 실패({}), 기본값으로 대체: {}", name, outcome, cause.toString());
+                    return fallback;
+                });
+    }
+
+    private Timer timer(String name, QueryOutcome outcome) {
+        Timer.Builder builder = Timer.builder(QUERY_METRIC)
+                .description("동네 대시보드 하위 쿼리 실행 시간")
+                .tag("query", name)
+                .tag("outcome", outcome.tag);
+        if (outcome == QueryOutcome.SUCCESS) {
+            builder.publishPercentileHistogram();
+        }
+        return builder.register(meterRegistry);
+    }
+
+    private enum QueryOutcome {
+        SUCCESS("success"), TIMEOUT("timeout"), ERROR("error");
+
+        private final String tag;
+
+        QueryOutcome(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final class QueryTimers {
+
+        private final String name;
+        private final AtomicReferenceArray<Timer> byOutcome = new AtomicReferenceArray<>(QueryOutcome.values().length);
+
+        private QueryTimers(String name) {
+            this.name = name;
+        }
+
+        // 동시에 처음 만들어도 registry 가 같은 id 의 Timer 를 돌려주므로 어느 쪽이 저장돼도 같다
+        Timer get(QueryOutcome outcome) {
+            Timer timer = byOutcome.get(outcome.ordinal());
+            if (timer == null) {
+                timer = timer(name, outcome);
+                byOutcome.set(outcome.ordinal(), timer);
+            }
+            return timer;
+        }
+    }
+}
@@ -1,30 +1,26 @@
 package com.example.backend.service;
 
-import com.example.backend.domain.Event;
-import com.example.backend.domain.Meeting;
+import com.example.backend.domain.AccountPurge;
 import com.example.backend.domain.RefreshToken;
 import com.example.backend.domain.Location;
 import com.example.backend.domain.User;
+import com.example.backend.domain.UserActivityCounter;
 import com.example.backend.dto.*;
 import com.example.backend.global.exception.custom.CustomException;
 import com.example.backend.global.exception.custom.ErrorCode;
-import com.example.backend.repository.AnswerRepository;
-import com.example.backend.repository.EventJoinRequestRepository;
-import com.example.backend.repository.EventMemberRepository;
-import com.example.backend.repository.EventRepository;
+import com.example.backend.repository.AccountPurgeRepository;
 import com.example.backend.repository.LocationRepository;
-import com.example.backend.repository.MeetingJoinRequestRepository;
-import com.example.backend.repository.MeetingMemberRepository;
-import com.example.backend.repository.MeetingRepository;
-import com.example.backend.repository.QuestionRepository;
 import com.example.backend.repository.RefreshTokenRepository;
+import com.example.backend.repository.UserActivityCounterRepository;
 import com.example.backend.repository.UserRepository;
+import com.example.backend.security.jwt.AuthUserCache;
 import com.example.backend.security.jwt.JwtProvider;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 
 @Service
@@ -33,16 +29,11 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
+    private final AuthUserCache authUserCache;
     private final RefreshTokenRepository refreshTokenRepository;
     private final LocationRepository locationRepository;
-    private final MeetingRepository meetingRepository;
-    private final EventRepository eventRepository;
-    private final EventMemberRepository eventMemberRepository;
-    private final EventJoinRequestRepository eventJoinRequestRepository;
-    private final QuestionRepository questionRepository;
-    private final AnswerRepository answerRepository;
-    private final MeetingMemberRepository meetingMemberRepository;
-    private final MeetingJoinRequestRepository meetingJoinRequestRepository;
+    private final UserActivityCounterRepository userActivityCounterRepository;
+    private final AccountPurgeRepository accountPurgeRepository;
 
     @Transactional
     public SignupResponse signup(SignupRequest request) {
@@ -63,12 +54,14 @@ public class UserService {
         User user = request.toEntity(encodedPassword, location);
 
         User savedUser = userRepository.save(user);
+        userActivityCounterRepository.save(new UserActivityCounter(savedUser));
         return SignupResponse.from(savedUser);
     }
 
     @Transactional
     public LoginResult login(LoginRequest request) {
         User user = userRepository.findByEmail(request.getEmail())
+                .filter(found -> !found.isWithdrawn())
                 .orElseThrow(() -> new CustomException(ErrorCode.INVALID_LOGIN));
 
         if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
@@ -104,8 +97,7 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public UserMeResponse me(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        User user = findActiveUser(userId);
         return UserMeResponse.from(user);
     }
 
@@ -156,30 +148,14 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public UserMyPageResponseDto getMyPage(Long userId) {
-        User user = userRepository.findById(userId)
+        // 활동 수는 user_activity_counters 에서 함께 조회 (COUNT 쿼리 없음)
+        return userRepository.findMyPage(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        String location = null;
-        if (user.getLocation() != null) {
-            location = user.getLocation().getProvince() + " " + user.getLocation().getCity();
-        }
-
-        return UserMyPageResponseDto.builder()
-                .id(user.getId())
-                .email(user.getEmail())
-                .nickname(user.getNickname())
-                .location(location)
-                .createdAt(user.getCreatedAt())
-                .groups(meetingMemberRepository.countByUserId(userId))
-                .events(eventMemberRepository.countByUserId(userId))
-                .qna(questionRepository.countByUserId(userId))
-                .build();
     }
 
     @Transactional
     public void updateUser(Long userId, UserUpdateRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        User user = findActiveUser(userId);
 
         checkPassword(request.getCurrentPassword(), user);
 
@@ -206,42 +182,34 @@ public class UserService {
         return parts;
     }
 
+    /**
+     * 탈퇴: 계정만 탈퇴 상태로 바꾸고 바로 응답
+     * 주최한 모임/이벤트, 질문/답변, 참여 정보 삭제는 AccountPurgeJob 이 chunk 단위로 이어서 처리한다
+     */
     @Transactional
     public void withdraw(Long userId, String currentPassword) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        User user = findActiveUser(userId);
 
         checkPassword(currentPassword, user);
 
-        List<Meeting> meetings = meetingRepository.findMeetingByHost(user);
-
-        for (Meeting meeting : meetings) {
-            meetingJoinRequestRepository.deleteByMeeting(meeting);
-            meetingMemberRepository.deleteByMeeting(meeting);
-        }
-
-        meetingRepository.deleteByHost(user);
-
-        List<Event> events = eventRepository.findEventByHost(user);
-
-        for (Event event: events) {
-            eventJoinRequestRepository.deleteByEvent(event);
-            eventMemberRepository.deleteByEvent(event);
-        }
+        user.withdraw();
+        refreshTokenRepository.deleteByUserId(userId);
+        accountPurgeRepository.save(new AccountPurge(userId));
+
+        // 이미 발급된 access token 도 더 이상 인증되지 않도록 (커밋된 뒤에만, 롤백되면 그대로 둔다)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                authUserCache.revoke(userId);
+            }
+        });
+    }
 
-        /**
-         * 이벤트 삭제하기
-         *
-         *
-         *
-         *
-         */
-        answerRepository.deleteByUser(user);
-        questionRepository.deleteByUser(user);
-        meetingJoinRequestRepository.deleteByUser(user);
-        meetingMemberRepository.deleteByUser(user);
-
-        userRepository.deleteById(userId);
+    // 토큰 폐기는 노드 로컬 best-effort 라 탈퇴 여부는 DB 값으로 확인한다
+    private User findActiveUser(Long userId) {
+        return userRepository.findById(userId)
+                .filter(found -> !found.isWithdrawn())
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
     }
 
     private void checkPassword(String currentPassword, User user) {
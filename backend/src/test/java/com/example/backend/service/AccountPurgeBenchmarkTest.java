@@ -0,0 +1,167 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.backend.domain.Answer;
+import com.example.backend.domain.Location;
+import com.example.backend.domain.Meeting;
+import com.example.backend.domain.MeetingJoinRequest;
+import com.example.backend.domain.MeetingMember;
+import com.example.backend.domain.Question;
+import com.example.backend.domain.User;
+import com.example.backend.enums.JoinRequestStatus;
+import com.example.backend.enums.MeetingCategory;
+import com.example.backend.enums.MeetingStatus;
+import com.example.backend.enums.QuestionCategory;
+import com.example.backend.repository.AccountPurgeRepository;
+import com.example.backend.repository.AnswerRepository;
+import com.example.backend.repository.MeetingJoinRequestRepository;
+import com.example.backend.repository.MeetingMemberRepository;
+import com.example.backend.repository.MeetingRepository;
+import com.example.backend.repository.QuestionRepository;
+import com.example.backend.repository.UserActivityCounterRepository;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.scheduler.AccountPurgeJob;
+import com.example.backend.support.IntegrationTestSupport;
+import com.example.backend.support.TestFixtures;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 모임 200개(멤버 4,000행) 를 주최한 사용자 탈퇴
+ * - withdraw 응답 지연(탈퇴 표시만) 과 AccountPurgeJob 정리 시간을 출력
+ * - 정리 후 주최 모임/멤버/신청/질문이 모두 지워지고, 다른 사용자의 활동 수와 참여 모임 인원이 차감됐는지 확인
+ */
+class AccountPurgeBenchmarkTest extends IntegrationTestSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountPurgeBenchmarkTest.class);
+
+    private static final int MEETINGS = 200;
+    private static final int MEMBER_USERS = 400;
+    private static final int MEMBERS_PER_MEETING = 20;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AccountPurgeJob accountPurgeJob;
+
+    @Autowired
+    private AccountPurgeRepository accountPurgeRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingMemberRepository meetingMemberRepository;
+
+    @Autowired
+    private MeetingJoinRequestRepository meetingJoinRequestRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private UserActivityCounterRepository userActivityCounterRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void 모임_200개_주최자_탈퇴와_정리() {
+        Location location = fixtures.location("마포구");
+        User host = fixtures.host(location);
+        List<User> users = fixtures.users("member", MEMBER_USERS, location);
+
+        List<MeetingMember> members = new ArrayList<>();
+        List<MeetingJoinRequest> requests = new ArrayList<>();
+        for (int i = 0; i < MEETINGS; i++) {
+            Meeting meeting = createMeeting(location, host, "모임" + i, MEMBERS_PER_MEETING + 1);
+            members.add(MeetingMember.createHost(meeting, host));
+            for (int j = 0; j < MEMBERS_PER_MEETING; j++) {
+                members.add(MeetingMember.createMember(meeting, users.get((i * MEMBERS_PER_MEETING + j) % MEMBER_USERS)));
+            }
+            requests.add(MeetingJoinRequest.builder()
+                    .meeting(meeting)
+                    .user(users.get(i % MEMBER_USERS))
+                    .message("참여 신청")
+                    .status(JoinRequestStatus.PENDING)
+                    .build());
+        }
+        meetingMemberRepository.saveAll(members);
+        meetingJoinRequestRepository.saveAll(requests);
+
+        // 다른 사용자 모임에 참여 + 질문에 다른 사용자 답변
+        User otherHost = users.get(0);
+        Meeting otherMeeting = createMeeting(location, otherHost, "다른 모임", 2);
+        meetingMemberRepository.save(MeetingMember.createHost(otherMeeting, otherHost));
+        meetingMemberRepository.save(MeetingMember.createMember(otherMeeting, host));
+
+        Question question = questionRepository.save(Question.builder()
+                .title("질문")
+                .content("내용")
+                .questionCategory(QuestionCategory.ETC)
+                .location(location)
+                .user(host)
+                .build());
+        answerRepository.save(Answer.builder().content("답변").question(question).user(users.get(1)).build());
+
+        userActivityCounterRepository.backfill(1, userRepository.findMaxId());
+        long memberMeetingCountBefore = userActivityCounterRepository.findById(users.get(5).getId())
+                .orElseThrow().getMeetingCount();
+
+        long started = System.nanoTime();
+        userService.withdraw(host.getId(), TestFixtures.PASSWORD);
+        double withdrawMs = (System.nanoTime() - started) / 1_000_000.0;
+
+        assertThat(userRepository.findById(host.getId()).orElseThrow().isWithdrawn()).isTrue();
+        assertThat(accountPurgeRepository.existsById(host.getId())).isTrue();
+
+        int runs = 0;
+        started = System.nanoTime();
+        while (accountPurgeRepository.existsById(host.getId()) && runs < 100) {
+            accountPurgeJob.purgePending();
+            runs++;
+        }
+        double purgeMs = (System.nanoTime() - started) / 1_000_000.0;
+
+        log.info("[account purge meetings={} memberRows={}] {} runs={}", MEETINGS, members.size(),
+                String.format("withdraw=%.2fms purge=%.2fms", withdrawMs, purgeMs), runs);
+
+        assertThat(userRepository.existsById(host.getId())).isFalse();
+        assertThat(accountPurgeRepository.existsById(host.getId())).isFalse();
+        assertThat(meetingRepository.count()).isEqualTo(1);
+        assertThat(meetingMemberRepository.count()).isEqualTo(1);
+        assertThat(meetingJoinRequestRepository.count()).isZero();
+        assertThat(questionRepository.count()).isZero();
+        assertThat(answerRepository.count()).isZero();
+        assertThat(meetingRepository.findById(otherMeeting.getId()).orElseThrow().getMemberCount()).isEqualTo(1);
+
+        // 주최 모임에 참여하던 사용자의 참여 모임 수는 그만큼 줄어든다
+        long memberMeetingCountAfter = userActivityCounterRepository.findById(users.get(5).getId())
+                .orElseThrow().getMeetingCount();
+        assertThat(memberMeetingCountAfter).isEqualTo(memberMeetingCountBefore - MEETINGS * MEMBERS_PER_MEETING / MEMBER_USERS);
+    }
+
+    private Meeting createMeeting(Location location, User host, String title, int memberCount) {
+        return meetingRepository.save(Meeting.builder()
+                .title(title)
+                .description("탈퇴 정리")
+                .category(MeetingCategory.STUDY)
+                .location(location)
+                .meetingPlace("테스트 장소")
+                .schedule("매주 수요일")
+                .capacity(MEMBERS_PER_MEETING * 2)
+                .memberCount(memberCount)
+                .status(MeetingStatus.RECRUITING)
+                .host(host)
+                .build());
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.backend.domain.Event;
+import com.example.backend.domain.EventMember;
+import com.example.backend.domain.Location;
+import com.example.backend.domain.User;
+import com.example.backend.dto.EventCalendarResponse;
+import com.example.backend.dto.EventCalendarSearchCondition;
+import com.example.backend.dto.EventUpdateRequest;
+import com.example.backend.enums.EventCategory;
+import com.example.backend.enums.EventStatus;
+import com.example.backend.global.exception.custom.CustomException;
+import com.example.backend.global.exception.custom.ErrorCode;
+import com.example.backend.repository.EventMemberRepository;
+import com.example.backend.repository.EventRepository;
+import com.example.backend.support.IntegrationTestSupport;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 이벤트 캘린더 월 버킷 캐시
+ * - 조회 기간 제한 (max-range-days, 기본 93일)
+ * - 일정이 바뀐 이벤트는 변경 전/후 월의 네 가지 조건 버킷이 모두 무효화된다
+ */
+class EventCalendarCacheTest extends IntegrationTestSupport {
+
+    @Autowired
+    private EventCalendarCache calendarCache;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventMemberRepository eventMemberRepository;
+
+    @Autowired
+    private LocationRegistry locationRegistry;
+
+    @Test
+    void 조회_기간은_max_range_days_까지만_허용한다() {
+        LocalDate from = LocalDate.now();
+
+        assertThat(calendarCache.find(condition(from, from.plusDays(92), null, null))).isEmpty();
+
+        assertThatThrownBy(() -> calendarCache.find(condition(from, from.plusDays(93), null, null)))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.CALENDAR_RANGE_TOO_LARGE));
+        assertThatThrownBy(() -> calendarCache.find(condition(from, from.minusDays(1), null, null)))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_DATE_RANGE));
+    }
+
+    @Test
+    void 일정_변경_시_변경_전후_월의_버킷이_무효화된다() {
+        Location location = fixtures.location("종로구");
+        locationRegistry.refresh();
+        User host = fixtures.host(location);
+
+        // 다른 테스트의 조회 기간과 겹치지 않도록 몇 달 뒤 두 달을 쓴다
+        LocalDate month = LocalDate.now().plusMonths(5).withDayOfMonth(10);
+        LocalDate nextMonth = month.plusMonths(1);
+        LocalDate from = month.withDayOfMonth(1);
+        LocalDate to = nextMonth.withDayOfMonth(nextMonth.lengthOfMonth());
+
+        Event moved = createEvent(location, host, "옮길 이벤트", month.atTime(10, 0));
+        List<EventCalendarSearchCondition> conditions = List.of(
+                condition(from, to, "서울", "종로구"),
+                condition(from, to, "서울", null),
+                condition(from, to, null, "종로구"),
+                condition(from, to, null, null));
+        for (EventCalendarSearchCondition condition : conditions) {
+            assertThat(ids(condition)).containsExactly(moved.getId());
+        }
+
+        // 이벤트 없이 DB 만 바뀌면 캐시된 버킷이 그대로 보인다
+        Event stayed = createEvent(location, host, "남는 이벤트", month.atTime(12, 0));
+        assertThat(ids(conditions.get(0))).containsExactly(moved.getId());
+
+        eventService.updateEvent(moved.getId(), host.getId(),
+                EventUpdateRequest.builder().startAt(nextMonth.atTime(10, 0)).build());
+
+        for (EventCalendarSearchCondition condition : conditions) {
+            assertThat(ids(condition)).containsExactly(stayed.getId(), moved.getId());
+        }
+    }
+
+    private Event createEvent(Location location, User host, String title, LocalDateTime startAt) {
+        Event event = eventRepository.save(Event.builder()
+                .title(title)
+                .description("캘린더")
+                .category(EventCategory.CULTURE)
+                .location(location)
+                .eventPlace("테스트 장소")
+                .startAt(startAt)
+                .capacity(10)
+                .memberCount(1)
+                .status(EventStatus.RECRUITING)
+                .host(host)
+                .build());
+        eventMemberRepository.save(EventMember.createHost(event, host));
+        return event;
+    }
+
+    private List<Long> ids(EventCalendarSearchCondition condition) {
+        return calendarCache.find(condition).stream()
+                .map(EventCalendarResponse::getId)
+                .toList();
+    }
+
+    private static EventCalendarSearchCondition condition(LocalDate from, LocalDate to, String province, String city) {
+        EventCalendarSearchCondition condition = new EventCalendarSearchCondition();
+        condition.setFrom(from);
+        condition.setTo(to);
+        condition.setProvince(province);
+        condition.setCity(city);
+        return condition;
+    }
+}
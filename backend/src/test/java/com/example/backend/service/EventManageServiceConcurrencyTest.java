@@ -0,0 +1,129 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.backend.domain.Event;
+import com.example.backend.domain.EventJoinRequest;
+import com.example.backend.domain.EventMember;
+import com.example.backend.domain.Location;
+import com.example.backend.domain.User;
+import com.example.backend.enums.EventCategory;
+import com.example.backend.enums.EventStatus;
+import com.example.backend.enums.JoinRequestStatus;
+import com.example.backend.global.exception.custom.CustomException;
+import com.example.backend.global.exception.custom.ErrorCode;
+import com.example.backend.repository.EventJoinRequestRepository;
+import com.example.backend.repository.EventMemberRepository;
+import com.example.backend.repository.EventRepository;
+import com.example.backend.support.IntegrationTestSupport;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 동시 승인 스트레스 테스트
+ * 정원보다 많은 신청을 여러 스레드가 동시에 승인해도 정원을 넘지 않는지, 처리량은 어느 정도인지 확인
+ */
+class EventManageServiceConcurrencyTest extends IntegrationTestSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(EventManageServiceConcurrencyTest.class);
+
+    private static final int CAPACITY = 20;
+    private static final int REQUESTS = 200;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private EventManageService eventManageService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventMemberRepository eventMemberRepository;
+
+    @Autowired
+    private EventJoinRequestRepository eventJoinRequestRepository;
+
+    @Test
+    void 동시_승인에도_정원을_초과하지_않는다() throws InterruptedException {
+        Location location = fixtures.location("강남구");
+        User host = fixtures.host(location);
+
+        Event event = eventRepository.save(Event.builder()
+                .title("동시성 테스트")
+                .description("정원 예약")
+                .category(EventCategory.CULTURE)
+                .location(location)
+                .eventPlace("테스트 장소")
+                .startAt(LocalDateTime.now().plusDays(7))
+                .capacity(CAPACITY)
+                .memberCount(1)
+                .status(EventStatus.RECRUITING)
+                .host(host)
+                .build());
+        eventMemberRepository.save(EventMember.createHost(event, host));
+
+        List<Long> requestIds = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            User user = fixtures.user("user" + i, location);
+            requestIds.add(eventJoinRequestRepository.save(EventJoinRequest.builder()
+                    .user(user)
+                    .event(event)
+                    .status(JoinRequestStatus.PENDING)
+                    .message("참여 신청")
+                    .build()).getId());
+        }
+
+        AtomicInteger approved = new AtomicInteger();
+        AtomicInteger full = new AtomicInteger();
+        AtomicInteger unexpected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        for (Long requestId : requestIds) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    eventManageService.approveJoinRequest(event.getId(), requestId, host.getId());
+                    approved.incrementAndGet();
+                } catch (CustomException e) {
+                    if (e.getErrorCode() == ErrorCode.EVENT_IS_FULL) {
+                        full.incrementAndGet();
+                    } else {
+                        unexpected.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    unexpected.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executor.shutdown();
+
+        log.info("[approve] requests={} threads={} elapsed={}ms throughput={} ops/s",
+                REQUESTS, THREADS, elapsedMs, String.format("%.1f", REQUESTS * 1000.0 / Math.max(elapsedMs, 1)));
+
+        Event reloaded = eventRepository.findById(event.getId()).orElseThrow();
+        assertThat(unexpected.get()).isZero();
+        assertThat(approved.get()).isEqualTo(CAPACITY - 1);
+        assertThat(full.get()).isEqualTo(REQUESTS - (CAPACITY - 1));
+        assertThat(reloaded.getMemberCount()).isEqualTo(CAPACITY);
+        assertThat(eventMemberRepository.countByEvent(reloaded)).isEqualTo(CAPACITY);
+    }
+}
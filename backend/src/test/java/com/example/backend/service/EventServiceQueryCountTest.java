@@ -0,0 +1,96 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.backend.domain.Event;
+import com.example.backend.domain.EventMember;
+import com.example.backend.domain.Location;
+import com.example.backend.domain.User;
+import com.example.backend.dto.EventDetailResponse;
+import com.example.backend.enums.EventCategory;
+import com.example.backend.enums.EventStatus;
+import com.example.backend.repository.EventMemberRepository;
+import com.example.backend.repository.EventRepository;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.support.IntegrationTestSupport;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 이벤트 상세 조회 쿼리 수 고정 확인
+ * 멤버 수와 관계없이 상세 fetch join 1회 + (로그인 시) 신청 상태 조회 1회
+ */
+class EventServiceQueryCountTest extends IntegrationTestSupport {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventMemberRepository eventMemberRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void 상세_조회_쿼리_수는_멤버_수와_무관하다(int memberCount) {
+        Long eventId = createEventWithMembers(memberCount);
+        User viewer = userRepository.findAll().get(0);
+
+        statistics.clear();
+        EventDetailResponse loggedIn = eventService.getEventDetail(viewer.getId(), eventId);
+        long loggedInStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        eventService.getEventDetail(null, eventId);
+        long anonymousStatements = statistics.getPrepareStatementCount();
+
+        assertThat(loggedIn.getMemberCount()).isEqualTo((long) memberCount);
+        assertThat(loggedInStatements).isEqualTo(2);
+        assertThat(anonymousStatements).isEqualTo(1);
+    }
+
+    private Long createEventWithMembers(int memberCount) {
+        Location location = fixtures.location("마포구");
+        User host = fixtures.host(location);
+
+        Event event = eventRepository.save(Event.builder()
+                .title("상세 조회")
+                .description("쿼리 수 확인")
+                .category(EventCategory.CULTURE)
+                .location(location)
+                .eventPlace("테스트 장소")
+                .startAt(LocalDateTime.now().plusDays(3))
+                .capacity(memberCount + 10)
+                .memberCount(memberCount)
+                .status(EventStatus.RECRUITING)
+                .host(host)
+                .build());
+        eventMemberRepository.save(EventMember.createHost(event, host));
+
+        for (int i = 1; i < memberCount; i++) {
+            User user = fixtures.user("member" + i, location);
+            eventMemberRepository.save(EventMember.createMember(event, user));
+        }
+        return event.getId();
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.backend.dto.FlashEventListResponse;
+import com.example.backend.global.exception.custom.CustomException;
+import com.example.backend.global.exception.custom.ErrorCode;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 번개 이벤트 SSE 구독 관리 (스프링 컨텍스트 없이 FlashEventStream 만)
+ * 전송 executor 는 작업을 쌓아 두기만 하는 큐로 바꿔, 호출 스레드에서 전송하지 않는지와 전송 후 상태를 나눠 본다
+ */
+class FlashEventStreamTest {
+
+    private static final long TIMEOUT_MS = 60_000;
+
+    private final Queue<Runnable> sendTasks = new ConcurrentLinkedQueue<>();
+
+    @Test
+    void 동시에_구독해도_전체_구독_수를_넘지_않는다() throws InterruptedException {
+        int max = 5;
+        int requests = 32;
+        FlashEventStream stream = new FlashEventStream(sendTasks::add, TIMEOUT_MS, max, 1);
+
+        AtomicInteger subscribed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requests);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int i = 0; i < requests; i++) {
+            long userId = i;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    stream.subscribe(userId, "서울", "강남구", List::of);
+                    subscribed.incrementAndGet();
+                } catch (CustomException e) {
+                    if (e.getErrorCode() == ErrorCode.FLASH_STREAM_UNAVAILABLE) {
+                        rejected.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(subscribed.get()).isEqualTo(max);
+        assertThat(rejected.get()).isEqualTo(requests - max);
+        assertThat(stream.subscriberCount()).isEqualTo(max);
+    }
+
+    @Test
+    void 사용자별_구독_수를_제한하고_거절된_요청은_전체_자리를_잡지_않는다() {
+        FlashEventStream stream = new FlashEventStream(sendTasks::add, TIMEOUT_MS, 3, 2);
+
+        stream.subscribe(1L, null, null, List::of);
+        stream.subscribe(1L, null, null, List::of);
+        assertThatThrownBy(() -> stream.subscribe(1L, null, null, List::of))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.FLASH_STREAM_TOO_MANY));
+
+        stream.subscribe(2L, null, null, List::of);
+        assertThat(stream.subscriberCount()).isEqualTo(3);
+    }
+
+    @Test
+    void 전송은_executor_에서_하고_끊긴_구독은_자리를_반납한다() {
+        FlashEventStream stream = new FlashEventStream(sendTasks::add, TIMEOUT_MS, 1, 1);
+
+        SseEmitter emitter = stream.subscribe(1L, "서울", "강남구", List::of);
+        emitter.complete();
+        stream.upsert(flashEvent(10L, "서울", "강남구"));
+
+        // 호출 스레드에서는 보내지 않는다 (snapshot + upsert 가 대기열에 있음)
+        assertThat(sendTasks).hasSize(2);
+        assertThatThrownBy(() -> stream.subscribe(2L, "서울", "강남구", List::of))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.FLASH_STREAM_UNAVAILABLE));
+
+        // 이미 닫힌 연결은 전송 실패 -> 구독 해제, 자리 반납
+        runSendTasks();
+        assertThat(stream.subscriberCount()).isZero();
+
+        stream.subscribe(2L, "서울", "강남구", List::of);
+        assertThat(stream.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void snapshot_은_구독_등록_후_전송_스레드에서_만든다() {
+        FlashEventStream stream = new FlashEventStream(sendTasks::add, TIMEOUT_MS, 1, 1);
+        AtomicInteger snapshots = new AtomicInteger();
+
+        stream.subscribe(1L, null, null, () -> {
+            // 만드는 시점에는 이미 구독자로 등록되어 있어 이후 변경분을 놓치지 않는다
+            assertThat(stream.subscriberCount()).isEqualTo(1);
+            snapshots.incrementAndGet();
+            return List.of();
+        });
+        assertThat(snapshots).hasValue(0);
+
+        runSendTasks();
+        assertThat(snapshots).hasValue(1);
+    }
+
+    @Test
+    void 전송_대기열이_넘치면_구독을_모두_끊는다() {
+        FlashEventStream stream = new FlashEventStream(task -> {
+            throw new RejectedExecutionException("full");
+        }, TIMEOUT_MS, 10, 10);
+
+        stream.subscribe(1L, null, null, List::of);
+
+        assertThat(stream.subscriberCount()).isZero();
+    }
+
+    private void runSendTasks() {
+        Runnable task;
+        while ((task = sendTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private static FlashEventListResponse flashEvent(Long eventId, String province, String city) {
+        return FlashEventListResponse.builder()
+                .eventId(eventId)
+                .title("번개")
+                .province(province)
+                .city(city)
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.backend.domain.Location;
+import com.example.backend.domain.Question;
+import com.example.backend.domain.User;
+import com.example.backend.dto.QuestionResponseRequest;
+import com.example.backend.dto.QuestionSearchRequest;
+import com.example.backend.enums.QuestionCategory;
+import com.example.backend.repository.QuestionRepository;
+import com.example.backend.repository.support.FullTextSearch;
+import com.example.backend.support.H2MatchAgainst;
+import com.example.backend.support.IntegrationTestSupport;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 질문 키워드 검색
+ * - FULLTEXT 를 쓸 수 없으면(H2 기본 상태, 짧은 단어) LIKE 로 검색
+ * - FULLTEXT 를 쓰면 관련도 순 -> 최신순 (H2 에서는 support.H2MatchAgainst 로 match_against 대체)
+ */
+class FullTextSearchTest extends IntegrationTestSupport {
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private FullTextSearch fullTextSearch;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Location location;
+
+    @BeforeEach
+    void setUp() {
+        H2MatchAgainst.register(jdbcTemplate);
+        location = fixtures.location("성동구");
+        User user = fixtures.host(location);
+
+        // 저장 순서가 관련도 순서의 반대라 최신순만으로는 기대 순서가 나오지 않는다
+        question("스프링 질문", user);
+        question("스프링 스프링 질문", user);
+        question("스프링 스프링 스프링 질문", user);
+        question("자바 질문", user);
+        question("Spring A to Z", user);
+    }
+
+    @AfterEach
+    void disableFullText() {
+        ReflectionTestUtils.setField(fullTextSearch, "available", false);
+    }
+
+    @Test
+    void FULLTEXT_를_쓸_수_없으면_LIKE_로_검색한다() {
+        assertThat(fullTextSearch.supports("스프링")).isFalse();
+
+        assertThat(search("스프링"))
+                .containsExactlyInAnyOrder("스프링 질문", "스프링 스프링 질문", "스프링 스프링 스프링 질문");
+        // LIKE 는 대소문자 무시
+        assertThat(search("spring")).containsExactly("Spring A to Z");
+    }
+
+    @Test
+    void ngram_토큰보다_짧은_단어가_섞이면_LIKE_로_검색한다() {
+        enableFullText();
+
+        assertThat(fullTextSearch.supports("스프링 질문")).isTrue();
+        assertThat(fullTextSearch.supports("spring a")).isFalse();
+        assertThat(fullTextSearch.supports("자")).isFalse();
+        assertThat(fullTextSearch.supports("+-\"")).isFalse();
+
+        assertThat(search("spring a")).containsExactly("Spring A to Z");
+    }
+
+    @Test
+    void FULLTEXT_검색은_관련도_순으로_정렬한다() {
+        enableFullText();
+
+        assertThat(search("스프링"))
+                .containsExactly("스프링 스프링 스프링 질문", "스프링 스프링 질문", "스프링 질문");
+    }
+
+    private void enableFullText() {
+        ReflectionTestUtils.setField(fullTextSearch, "available", true);
+    }
+
+    private List<String> search(String keyword) {
+        QuestionSearchRequest request = new QuestionSearchRequest(keyword, null, location.getProvince(), location.getCity());
+        return questionService.getQuestions(request, PageRequest.of(0, 10)).getContent().stream()
+                .map(QuestionResponseRequest::getTitle)
+                .toList();
+    }
+
+    private void question(String title, User user) {
+        questionRepository.save(Question.builder()
+                .title(title)
+                .content("검색")
+                .questionCategory(QuestionCategory.ETC)
+                .location(location)
+                .user(user)
+                .build());
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.backend.domain.Location;
+import com.example.backend.domain.Meeting;
+import com.example.backend.domain.MeetingJoinRequest;
+import com.example.backend.domain.MeetingMember;
+import com.example.backend.domain.User;
+import com.example.backend.enums.JoinRequestStatus;
+import com.example.backend.enums.MeetingCategory;
+import com.example.backend.enums.MeetingStatus;
+import com.example.backend.repository.MeetingJoinRequestRepository;
+import com.example.backend.repository.MeetingMemberRepository;
+import com.example.backend.repository.MeetingRepository;
+import com.example.backend.support.IntegrationTestSupport;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 멤버 100명 모임에서 승인/거절 지연 비교
+ * - 관리 경로는 meetings 행만 읽고, 전체 그래프(fetch join) 는 상세 조회에서만 사용
+ * - 전체 그래프 로드 vs 단건 로드 비용과 승인/거절 평균 지연을 출력하고,
+ *   거절이 멤버 목록을 읽지 않는지(로드 엔티티 수) 확인한다
+ */
+class MeetingServiceCommandBenchmarkTest extends IntegrationTestSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(MeetingServiceCommandBenchmarkTest.class);
+
+    private static final int MEMBERS = 100;
+    private static final int OPERATIONS = 50;
+    private static final int WARMUP = 5;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingMemberRepository meetingMemberRepository;
+
+    @Autowired
+    private MeetingJoinRequestRepository meetingJoinRequestRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void 멤버_100명_모임의_승인_거절_지연() {
+        Location location = fixtures.location("송파구");
+        User host = fixtures.host(location);
+        Meeting meeting = createMeetingWithMembers(location, host);
+        Long meetingId = meeting.getId();
+
+        List<Long> approveIds = createRequests(meeting, location, "approve", OPERATIONS + WARMUP);
+        List<Long> rejectIds = createRequests(meeting, location, "reject", OPERATIONS + WARMUP);
+
+        TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+
+        double fullGraphMs = averageMs(i -> readOnlyTx.executeWithoutResult(status ->
+                meetingRepository.findDetailWithMembersById(meetingId).orElseThrow().getMembers().size()));
+        double slimMs = averageMs(i -> readOnlyTx.executeWithoutResult(status ->
+                meetingRepository.findById(meetingId).orElseThrow().getMemberCount()));
+
+        double approveMs = averageMs(i ->
+                meetingService.approveJoinRequest(meetingId, approveIds.get((int) i), host.getId()));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        double rejectMs = averageMs(i ->
+                meetingService.rejectJoinRequest(meetingId, rejectIds.get((int) i), host.getId()));
+        long entitiesLoadedPerReject = statistics.getEntityLoadCount() / (OPERATIONS + WARMUP);
+
+        log.info("[meeting members={}] {}", MEMBERS, String.format(
+                "fullGraphLoad=%.2fms slimLoad=%.2fms approve=%.2fms reject=%.2fms", fullGraphMs, slimMs, approveMs, rejectMs));
+
+        // 거절은 모임 1건 + 신청 1건만 읽는다 (멤버 100명을 읽지 않음)
+        assertThat(entitiesLoadedPerReject).isLessThanOrEqualTo(2);
+        assertThat(meetingRepository.findById(meetingId).orElseThrow().getMemberCount())
+                .isEqualTo(MEMBERS + OPERATIONS + WARMUP);
+    }
+
+    // 앞의 WARMUP 회는 제외하고 평균
+    private double averageMs(LongConsumer operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            operation.accept(i);
+        }
+
+        long started = System.nanoTime();
+        for (int i = WARMUP; i < WARMUP + OPERATIONS; i++) {
+            operation.accept(i);
+        }
+        return (System.nanoTime() - started) / 1_000_000.0 / OPERATIONS;
+    }
+
+    private Meeting createMeetingWithMembers(Location location, User host) {
+        Meeting meeting = meetingRepository.save(Meeting.builder()
+                .title("벤치마크 모임")
+                .description("멤버 100명")
+                .category(MeetingCategory.STUDY)
+                .location(location)
+                .meetingPlace("테스트 장소")
+                .schedule("매주 토요일")
+                .capacity(MEMBERS * 3)
+                .memberCount(MEMBERS)
+                .status(MeetingStatus.RECRUITING)
+                .host(host)
+                .build());
+        meetingMemberRepository.save(MeetingMember.createHost(meeting, host));
+
+        for (int i = 1; i < MEMBERS; i++) {
+            User user = fixtures.user("member" + i, location);
+            meetingMemberRepository.save(MeetingMember.createMember(meeting, user));
+        }
+        return meeting;
+    }
+
+    private List<Long> createRequests(Meeting meeting, Location location, String prefix, int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User user = fixtures.user(prefix + i, location);
+            ids.add(meetingJoinRequestRepository.save(MeetingJoinRequest.builder()
+                    .meeting(meeting)
+                    .user(user)
+                    .message("참여 신청")
+                    .status(JoinRequestStatus.PENDING)
+                    .build()).getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.backend.domain.Event;
+import com.example.backend.domain.EventMember;
+import com.example.backend.domain.Location;
+import com.example.backend.domain.Meeting;
+import com.example.backend.domain.MeetingMember;
+import com.example.backend.domain.Question;
+import com.example.backend.domain.User;
+import com.example.backend.dto.KeysetPageResponse;
+import com.example.backend.dto.MyActivityItemDto;
+import com.example.backend.enums.ActivityType;
+import com.example.backend.enums.EventCategory;
+import com.example.backend.enums.EventStatus;
+import com.example.backend.enums.MeetingCategory;
+import com.example.backend.enums.MeetingStatus;
+import com.example.backend.enums.QuestionCategory;
+import com.example.backend.global.exception.custom.CustomException;
+import com.example.backend.global.exception.custom.ErrorCode;
+import com.example.backend.repository.EventMemberRepository;
+import com.example.backend.repository.EventRepository;
+import com.example.backend.repository.MeetingMemberRepository;
+import com.example.backend.repository.MeetingRepository;
+import com.example.backend.repository.QuestionRepository;
+import com.example.backend.repository.support.ActivityCursor;
+import com.example.backend.support.IntegrationTestSupport;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 마이페이지 활동 타임라인 (모임/이벤트/질문 3-way merge + ActivityCursor)
+ * - 같은 시각에 종류가 다른 항목이 섞여 있어도 (시각 desc, 종류 desc, id desc) 순서로 한 번씩만 나온다
+ * - 페이지 크기를 바꿔 커서가 같은 시각 묶음 중간에서 끊겨도 중복/누락이 없는지 본다
+ */
+class MyPageActivityTimelineTest extends IntegrationTestSupport {
+
+    private static final LocalDateTime LATER = LocalDateTime.of(2026, 5, 1, 12, 0);
+    private static final LocalDateTime EARLIER = LATER.minusHours(1);
+
+    @Autowired
+    private MyPageQueryService myPageQueryService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingMemberRepository meetingMemberRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventMemberRepository eventMemberRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private List<String> expected;
+
+    @BeforeEach
+    void setUp() {
+        Location location = fixtures.location("용산구");
+        user = fixtures.host(location);
+
+        // 시각마다 종류별로 두 건 / 한 건씩, 저장 순서를 섞어 id 순서가 종류 순서와 겹치지 않게 한다
+        Long question1 = question(location, LATER);
+        Long meeting1 = meeting(location, LATER);
+        Long event1 = event(location, LATER);
+        Long meeting2 = meeting(location, LATER);
+        Long question2 = question(location, LATER);
+        Long event2 = event(location, LATER);
+        Long event3 = event(location, EARLIER);
+        Long question3 = question(location, EARLIER);
+        Long meeting3 = meeting(location, EARLIER);
+
+        expected = List.of(
+                key(ActivityType.MEETING, meeting2), key(ActivityType.MEETING, meeting1),
+                key(ActivityType.EVENT, event2), key(ActivityType.EVENT, event1),
+                key(ActivityType.QUESTION, question2), key(ActivityType.QUESTION, question1),
+                key(ActivityType.MEETING, meeting3),
+                key(ActivityType.EVENT, event3),
+                key(ActivityType.QUESTION, question3));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4, 9})
+    void 같은_시각의_여러_종류를_페이지로_넘겨도_중복이나_누락이_없다(int size) {
+        List<String> actual = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+
+        while (true) {
+            KeysetPageResponse<MyActivityItemDto> page = myPageQueryService.getMyActivity(user.getId(), cursor, size);
+            assertThat(page.getItems()).hasSizeLessThanOrEqualTo(size);
+            page.getItems().forEach(item -> actual.add(key(item.getType(), item.getId())));
+            pages++;
+
+            if (!page.isHasNext()) {
+                break;
+            }
+            cursor = page.getNextCursor();
+        }
+
+        assertThat(actual).containsExactlyElementsOf(expected);
+        assertThat(pages).isEqualTo((expected.size() + size - 1) / size);
+    }
+
+    @Test
+    void 커서는_시각_종류_id_를_그대로_되돌리고_형식이_틀리면_거절한다() {
+        ActivityCursor cursor = ActivityCursor.of(LATER, ActivityType.EVENT, 42L);
+
+        ActivityCursor decoded = ActivityCursor.decode(cursor.encode());
+        assertThat(decoded.getOccurredAt()).isEqualTo(LATER);
+        assertThat(decoded.getType()).isEqualTo(ActivityType.EVENT);
+        assertThat(decoded.getId()).isEqualTo(42L);
+
+        assertThat(ActivityCursor.decode(null)).isNull();
+        assertThatThrownBy(() -> ActivityCursor.decode("not-a-cursor"))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_CURSOR));
+    }
+
+    private Long meeting(Location location, LocalDateTime joinedAt) {
+        Meeting meeting = meetingRepository.save(Meeting.builder()
+                .title("모임")
+                .description("타임라인")
+                .category(MeetingCategory.STUDY)
+                .location(location)
+                .meetingPlace("테스트 장소")
+                .schedule("매주 일요일")
+                .capacity(10)
+                .memberCount(1)
+                .status(MeetingStatus.RECRUITING)
+                .host(user)
+                .build());
+        meetingMemberRepository.save(MeetingMember.createHost(meeting, user));
+        jdbcTemplate.update("update meeting_members set created_at = ? where meeting_id = ?", joinedAt, meeting.getId());
+        return meeting.getId();
+    }
+
+    private Long event(Location location, LocalDateTime joinedAt) {
+        Event event = eventRepository.save(Event.builder()
+                .title("이벤트")
+                .description("타임라인")
+                .category(EventCategory.CULTURE)
+                .location(location)
+                .eventPlace("테스트 장소")
+                .startAt(LATER.plusDays(7))
+                .capacity(10)
+                .memberCount(1)
+                .status(EventStatus.RECRUITING)
+                .host(user)
+                .build());
+        eventMemberRepository.save(EventMember.createHost(event, user));
+        jdbcTemplate.update("update event_members set created_at = ? where event_id = ?", joinedAt, event.getId());
+        return event.getId();
+    }
+
+    private Long question(Location location, LocalDateTime createdAt) {
+        Question question = questionRepository.save(Question.builder()
+                .title("질문")
+                .content("타임라인")
+                .questionCategory(QuestionCategory.ETC)
+                .location(location)
+                .user(user)
+                .build());
+        jdbcTemplate.update("update questions set created_at = ? where id = ?", createdAt, question.getId());
+        return question.getId();
+    }
+
+    private static String key(ActivityType type, Long id) {
+        return type + ":" + id;
+    }
+}
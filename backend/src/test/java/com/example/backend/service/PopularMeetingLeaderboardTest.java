@@ -0,0 +1,113 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.backend.domain.Location;
+import com.example.backend.domain.Meeting;
+import com.example.backend.domain.MeetingJoinRequest;
+import com.example.backend.domain.MeetingMember;
+import com.example.backend.domain.User;
+import com.example.backend.dto.ChangeMeetingStatusRequest;
+import com.example.backend.dto.PopularMeetingDto;
+import com.example.backend.enums.JoinRequestStatus;
+import com.example.backend.enums.MeetingCategory;
+import com.example.backend.enums.MeetingStatus;
+import com.example.backend.repository.MeetingJoinRequestRepository;
+import com.example.backend.repository.MeetingMemberRepository;
+import com.example.backend.repository.MeetingRepository;
+import com.example.backend.support.IntegrationTestSupport;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 인기 모임 순위가 승인/강퇴/상태 변경 후에도 SQL 결과(findPopularMeetings)와 같은지 확인
+ */
+class PopularMeetingLeaderboardTest extends IntegrationTestSupport {
+
+    @Autowired
+    private PopularMeetingLeaderboard leaderboard;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingMemberRepository meetingMemberRepository;
+
+    @Autowired
+    private MeetingJoinRequestRepository meetingJoinRequestRepository;
+
+    @Test
+    void 멤버_변경과_상태_변경_후에도_SQL_결과와_같다() {
+        Location location = fixtures.location("강동구");
+        User host = fixtures.host(location);
+
+        List<Meeting> meetings = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            meetings.add(createMeeting(location, host, "모임" + i));
+        }
+        leaderboard.rebuild();
+        assertThat(leaderboard.isConsistent(location.getId())).isTrue();
+
+        // 마지막 모임에 2명 승인 -> 1위
+        Meeting target = meetings.get(4);
+        List<Long> memberIds = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            User user = fixtures.user("user" + i, location);
+            Long requestId = meetingJoinRequestRepository.save(MeetingJoinRequest.builder()
+                    .meeting(target)
+                    .user(user)
+                    .message("참여 신청")
+                    .status(JoinRequestStatus.PENDING)
+                    .build()).getId();
+            meetingService.approveJoinRequest(target.getId(), requestId, host.getId());
+            memberIds.add(user.getId());
+        }
+
+        List<PopularMeetingDto> top = leaderboard.top(location.getId(), 3);
+        assertThat(top.get(0).getId()).isEqualTo(target.getId());
+        assertThat(top.get(0).getMembers()).isEqualTo(3);
+        assertThat(leaderboard.isConsistent(location.getId())).isTrue();
+
+        // 강퇴 -> 인원 감소 반영
+        Long memberId = meetingMemberRepository.findAllByMeeting(target).stream()
+                .filter(member -> member.getUser().getId().equals(memberIds.get(0)))
+                .findFirst()
+                .orElseThrow()
+                .getId();
+        meetingService.removeMember(target.getId(), memberId, host.getId());
+        assertThat(leaderboard.top(location.getId(), 1).get(0).getMembers()).isEqualTo(2);
+        assertThat(leaderboard.isConsistent(location.getId())).isTrue();
+
+        // 모집 종료 -> 순위에서 제외
+        ChangeMeetingStatusRequest request = new ChangeMeetingStatusRequest();
+        ReflectionTestUtils.setField(request, "status", MeetingStatus.ACTIVE);
+        meetingService.changeStatus(target.getId(), host.getId(), request);
+        assertThat(leaderboard.top(location.getId(), 5))
+                .extracting(PopularMeetingDto::getId)
+                .doesNotContain(target.getId());
+        assertThat(leaderboard.isConsistent(location.getId())).isTrue();
+    }
+
+    private Meeting createMeeting(Location location, User host, String title) {
+        Meeting meeting = meetingRepository.save(Meeting.builder()
+                .title(title)
+                .description("순위 확인")
+                .category(MeetingCategory.STUDY)
+                .location(location)
+                .meetingPlace("테스트 장소")
+                .schedule("매주 일요일")
+                .capacity(10)
+                .memberCount(1)
+                .status(MeetingStatus.RECRUITING)
+                .host(host)
+                .build());
+        meetingMemberRepository.save(MeetingMember.createHost(meeting, host));
+        return meeting;
+    }
+}
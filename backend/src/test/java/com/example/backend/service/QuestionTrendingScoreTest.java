@@ -0,0 +1,115 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.example.backend.domain.Location;
+import com.example.backend.domain.Question;
+import com.example.backend.domain.User;
+import com.example.backend.dto.KeysetPageResponse;
+import com.example.backend.dto.QuestionResponseRequest;
+import com.example.backend.dto.QuestionSearchRequest;
+import com.example.backend.enums.QuestionCategory;
+import com.example.backend.repository.QuestionRepository;
+import com.example.backend.support.IntegrationTestSupport;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 질문 트렌딩 점수 (반감기 기본 24시간)
+ * - DB 의 log-sum-exp 누적이 "이전 가치를 반감기만큼 깎고 새 가치를 더한 값" 과 같은지
+ * - 트렌딩 정렬(keyset) 이 시간 감쇠를 반영한 순서인지
+ */
+class QuestionTrendingScoreTest extends IntegrationTestSupport {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 3, 1, 0, 0);
+    private static final double TOLERANCE = 1e-9;
+
+    @Autowired
+    private QuestionTrendingScore trendingScore;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Location location;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        location = fixtures.location("마포구");
+        user = fixtures.host(location);
+    }
+
+    @Test
+    void 누적하면_이전_가치는_반감기마다_절반이_된다() {
+        Question question = question("누적", trendingScore.logValue(1, T0));
+
+        // 하루 뒤 조회 1회: 0.5 + 1
+        accumulate(question, trendingScore.logValue(1, T0.plusHours(24)));
+        assertThat(score(question)).isCloseTo(trendingScore.logValue(1.5, T0.plusHours(24)), within(TOLERANCE));
+
+        // 이틀 뒤 답변(가중치 5): 1.5 * 0.5 + 5
+        accumulate(question, trendingScore.logValue(5, T0.plusHours(48)));
+        assertThat(score(question)).isCloseTo(trendingScore.logValue(5.75, T0.plusHours(48)), within(TOLERANCE));
+    }
+
+    @Test
+    void 트렌딩_정렬은_시간_감쇠를_반영한다() {
+        // 72시간 뒤 기준: old = 4 * 2^-3 = 0.5, recent = 1, middle = 1 * 2^-2 = 0.25
+        question("old", trendingScore.logValue(4, T0));
+        Question middle = question("middle", trendingScore.logValue(1, T0.plusHours(24)));
+        question("recent", trendingScore.logValue(1, T0.plusHours(72)));
+
+        assertThat(trending()).containsExactly("recent", "old", "middle");
+
+        // middle 에 같은 시각 조회 2회 -> 3 * 2^-2 = 0.75, old 보다 위로
+        accumulate(middle, trendingScore.logValue(2, T0.plusHours(24)));
+
+        assertThat(trending()).containsExactly("recent", "middle", "old");
+    }
+
+    // 크기 2 로 끝까지 넘겨 커서 경계에서도 순서가 이어지는지 함께 본다
+    private List<String> trending() {
+        QuestionSearchRequest request = new QuestionSearchRequest(null, null, location.getProvince(), location.getCity());
+        List<String> titles = new ArrayList<>();
+        String cursor = null;
+        do {
+            KeysetPageResponse<QuestionResponseRequest> page =
+                    questionService.getQuestionsByCursor(request, "trending", cursor, 2);
+            page.getItems().forEach(item -> titles.add(item.getTitle()));
+            cursor = page.isHasNext() ? page.getNextCursor() : null;
+        } while (cursor != null);
+        return titles;
+    }
+
+    private void accumulate(Question question, double value) {
+        jdbcTemplate.update(QuestionTrendingScore.ACCUMULATE_UPDATE, value, value, question.getId());
+    }
+
+    private double score(Question question) {
+        return jdbcTemplate.queryForObject(
+                "select trending_score from questions where id = ?", Double.class, question.getId());
+    }
+
+    private Question question(String title, double score) {
+        return questionRepository.save(Question.builder()
+                .title(title)
+                .content("트렌딩")
+                .questionCategory(QuestionCategory.ETC)
+                .location(location)
+                .user(user)
+                .trendingScore(score)
+                .build());
+    }
+}
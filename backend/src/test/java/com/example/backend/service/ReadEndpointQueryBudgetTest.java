@@ -0,0 +1,319 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.backend.domain.Answer;
+import com.example.backend.domain.Event;
+import com.example.backend.domain.EventJoinRequest;
+import com.example.backend.domain.EventMember;
+import com.example.backend.domain.Location;
+import com.example.backend.domain.Meeting;
+import com.example.backend.domain.MeetingJoinRequest;
+import com.example.backend.domain.MeetingMember;
+import com.example.backend.domain.Question;
+import com.example.backend.domain.User;
+import com.example.backend.enums.EventCategory;
+import com.example.backend.enums.EventStatus;
+import com.example.backend.enums.JoinRequestStatus;
+import com.example.backend.enums.MeetingCategory;
+import com.example.backend.enums.MeetingStatus;
+import com.example.backend.enums.QuestionCategory;
+import com.example.backend.repository.AnswerRepository;
+import com.example.backend.repository.EventJoinRequestRepository;
+import com.example.backend.repository.EventMemberRepository;
+import com.example.backend.repository.EventRepository;
+import com.example.backend.repository.MeetingJoinRequestRepository;
+import com.example.backend.repository.MeetingMemberRepository;
+import com.example.backend.repository.MeetingRepository;
+import com.example.backend.repository.QuestionRepository;
+import com.example.backend.support.IntegrationTestSupport;
+import com.example.backend.support.QueryCountConfig;
+import com.example.backend.support.QueryCounter;
+import com.example.backend.support.QueryCounter.QueryCount;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * 읽기 엔드포인트 쿼리 예산 (datasource-proxy, support.QueryCounter)
+ * - 동네 세 개(워밍업 / 작은 동네 SMALL 행 / 큰 동네 LARGE 행) 를 만들고 같은 요청을 동네별로 보낸다
+ * - 작은 동네와 큰 동네의 문장 수가 같아야 한다 (행마다 쿼리가 늘면 N+1)
+ * - 문장 수는 엔드포인트별 예산 이하, DB 시간은 DB_MILLIS_BUDGET 이하
+ * - 측정 결과는 끝에 엔드포인트별 표로 로그에 남긴다
+ */
+@AutoConfigureMockMvc
+@Import(QueryCountConfig.class)
+class ReadEndpointQueryBudgetTest extends IntegrationTestSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadEndpointQueryBudgetTest.class);
+
+    private static final int SMALL = 2;
+    private static final int LARGE = 12;
+    private static final long DB_MILLIS_BUDGET = 500;
+
+    private static final List<QueryCount> REPORT = new ArrayList<>();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private EventManageService eventManageService;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private LocationRegistry locationRegistry;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventMemberRepository eventMemberRepository;
+
+    @Autowired
+    private EventJoinRequestRepository eventJoinRequestRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingMemberRepository meetingMemberRepository;
+
+    @Autowired
+    private MeetingJoinRequestRepository meetingJoinRequestRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    private Town warmupTown;
+    private Town smallTown;
+    private Town largeTown;
+
+    @BeforeEach
+    void setUp() {
+        warmupTown = createTown("warmup", SMALL);
+        smallTown = createTown("small", SMALL);
+        largeTown = createTown("large", LARGE);
+        locationRegistry.refresh();
+    }
+
+    @AfterAll
+    static void logReport() {
+        StringBuilder report = new StringBuilder(String.format("%n%-40s %10s %8s %8s",
+                "request", "statements", "db(ms)", "total(ms)"));
+        for (QueryCount count : REPORT) {
+            report.append(String.format("%n%-40s %10d %8d %8d",
+                    count.name(), count.statements(), count.dbMillis(), count.totalMillis()));
+        }
+        log.info("[query budget]{}", report);
+    }
+
+    // 이름, 문장 수 예산, 동네 -> 요청 URL
+    static Stream<Arguments> readEndpoints() {
+        return Stream.of(
+                endpoint("GET /api/events", 3, town -> "/api/events?" + town.query() + "&size=20"),
+                endpoint("GET /api/events/cursor", 3, town -> "/api/events/cursor?" + town.query() + "&size=20"),
+                endpoint("GET /api/events/flash", 3, town -> "/api/events/flash?" + town.query() + "&size=20"),
+                endpoint("GET /api/events/calendar", 3, town -> "/api/events/calendar?" + town.query()
+                        + "&from=" + LocalDate.now() + "&to=" + LocalDate.now().plusDays(30)),
+                endpoint("GET /api/events/{id}", 1, town -> "/api/events/" + town.event().getId()),
+                endpoint("GET /api/meetings", 3, town -> "/api/meetings?" + town.query() + "&size=20"),
+                endpoint("GET /api/meetings/cursor", 3, town -> "/api/meetings/cursor?" + town.query() + "&size=20"),
+                endpoint("GET /api/meetings/{id}", 1, town -> "/api/meetings/" + town.meeting().getId()),
+                endpoint("GET /api/questions", 3, town -> "/api/questions?" + town.query() + "&size=20"),
+                endpoint("GET /api/questions/cursor", 3, town -> "/api/questions/cursor?" + town.query() + "&size=20"),
+                endpoint("GET /api/questions/{id}", 1, town -> "/api/questions/" + town.question().getId()),
+                endpoint("GET /api/questions/{id}/answers", 2,
+                        town -> "/api/questions/" + town.question().getId() + "/answers"),
+                endpoint("GET /api/towns/{id}/dashboard", 7,
+                        town -> "/api/towns/" + town.location().getId() + "/dashboard"),
+                endpoint("GET /api/locations", 1, town -> "/api/locations?keyword=" + encode(town.location().getCity()))
+        );
+    }
+
+    // 주최자 관리 화면 (로그인 필요) 은 서비스 호출로 측정
+    static Stream<Arguments> hostEndpoints() {
+        return Stream.of(
+                host("EventManageService.getMembers", 3,
+                        (service, town) -> service.eventManageService.getMembers(town.event().getId(), town.host().getId())),
+                host("EventManageService.getJoinRequests", 3,
+                        (service, town) -> service.eventManageService.getJoinRequests(town.event().getId(), town.host().getId())),
+                host("MeetingService.getMembers", 3,
+                        (service, town) -> service.meetingService.getMembers(town.meeting().getId(), town.host().getId())),
+                host("MeetingService.getJoinRequests", 3,
+                        (service, town) -> service.meetingService.getJoinRequests(town.meeting().getId(), town.host().getId()))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("readEndpoints")
+    void 읽기_엔드포인트_쿼리_수는_행_수와_무관하다(String name, int budget, Function<Town, String> url) {
+        request(url.apply(warmupTown));
+
+        QueryCount small = queryCounter.measure(name + " (" + SMALL + ")", () -> request(url.apply(smallTown)));
+        QueryCount large = queryCounter.measure(name + " (" + LARGE + ")", () -> request(url.apply(largeTown)));
+
+        assertBudget(small, large, budget);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hostEndpoints")
+    void 주최자_관리_조회_쿼리_수는_행_수와_무관하다(String name, int budget,
+                                      BiConsumer<ReadEndpointQueryBudgetTest, Town> call) {
+        call.accept(this, warmupTown);
+
+        QueryCount small = queryCounter.measure(name + " (" + SMALL + ")", () -> call.accept(this, smallTown));
+        QueryCount large = queryCounter.measure(name + " (" + LARGE + ")", () -> call.accept(this, largeTown));
+
+        assertBudget(small, large, budget);
+    }
+
+    private void assertBudget(QueryCount small, QueryCount large, int budget) {
+        REPORT.add(small);
+        REPORT.add(large);
+
+        assertThat(large.statements()).as("행 수에 따라 쿼리가 늘어남 (N+1)\n%s\n%s", small.describe(), large.describe())
+                .isEqualTo(small.statements());
+        assertThat(large.statements()).as("쿼리 수 예산 초과\n%s", large.describe())
+                .isLessThanOrEqualTo(budget);
+        assertThat(large.dbMillis()).as("DB 시간 예산 초과\n%s", large.describe())
+                .isLessThanOrEqualTo(DB_MILLIS_BUDGET);
+    }
+
+    private void request(String url) {
+        try {
+            mockMvc.perform(get(url)).andExpect(status().isOk());
+        } catch (Exception e) {
+            throw new IllegalStateException(url, e);
+        }
+    }
+
+    /**
+     * 동네 하나: 이벤트/모임/질문 rows 개, 첫 이벤트와 첫 모임에 멤버 rows 명 + 대기 신청 rows 건, 첫 질문에 답변 rows 개
+     */
+    private Town createTown(String name, int rows) {
+        Location location = fixtures.location(name + "구");
+        List<User> users = fixtures.users(name, rows * 2 + 1, location);
+        User host = users.get(0);
+
+        List<Event> events = new ArrayList<>();
+        List<Meeting> meetings = new ArrayList<>();
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            events.add(eventRepository.save(Event.builder()
+                    .title(name + " 이벤트 " + i)
+                    .description("쿼리 예산")
+                    .category(EventCategory.CULTURE)
+                    .location(location)
+                    .eventPlace("테스트 장소")
+                    .startAt(LocalDateTime.now().plusDays(3))
+                    .capacity(rows * 3)
+                    .memberCount(i == 0 ? rows : 1)
+                    .status(EventStatus.RECRUITING)
+                    .host(host)
+                    .build()));
+            meetings.add(meetingRepository.save(Meeting.builder()
+                    .title(name + " 모임 " + i)
+                    .description("쿼리 예산")
+                    .category(MeetingCategory.STUDY)
+                    .location(location)
+                    .meetingPlace("테스트 장소")
+                    .schedule("매주 수요일")
+                    .capacity(rows * 3)
+                    .memberCount(i == 0 ? rows : 1)
+                    .status(MeetingStatus.RECRUITING)
+                    .host(host)
+                    .build()));
+            questions.add(questionRepository.save(Question.builder()
+                    .title(name + " 질문 " + i)
+                    .content("쿼리 예산")
+                    .questionCategory(QuestionCategory.ETC)
+                    .location(location)
+                    .user(users.get(i + 1))
+                    .build()));
+        }
+
+        List<EventMember> eventMembers = new ArrayList<>();
+        List<MeetingMember> meetingMembers = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            eventMembers.add(EventMember.createHost(events.get(i), host));
+            meetingMembers.add(MeetingMember.createHost(meetings.get(i), host));
+        }
+        // 첫 이벤트/모임: 주최자 + 멤버 rows - 1 명, 나머지 사용자는 대기 신청
+        for (int i = 1; i < rows; i++) {
+            eventMembers.add(EventMember.createMember(events.get(0), users.get(i)));
+            meetingMembers.add(MeetingMember.createMember(meetings.get(0), users.get(i)));
+        }
+        eventMemberRepository.saveAll(eventMembers);
+        meetingMemberRepository.saveAll(meetingMembers);
+
+        List<EventJoinRequest> eventRequests = new ArrayList<>();
+        List<MeetingJoinRequest> meetingRequests = new ArrayList<>();
+        List<Answer> answers = new ArrayList<>();
+        for (int i = rows; i < rows * 2; i++) {
+            eventRequests.add(EventJoinRequest.builder()
+                    .event(events.get(0))
+                    .user(users.get(i))
+                    .message("참여 신청")
+                    .status(JoinRequestStatus.PENDING)
+                    .build());
+            meetingRequests.add(MeetingJoinRequest.builder()
+                    .meeting(meetings.get(0))
+                    .user(users.get(i))
+                    .message("참여 신청")
+                    .status(JoinRequestStatus.PENDING)
+                    .build());
+            answers.add(Answer.builder().content("답변").question(questions.get(0)).user(users.get(i)).build());
+        }
+        eventJoinRequestRepository.saveAll(eventRequests);
+        meetingJoinRequestRepository.saveAll(meetingRequests);
+        answerRepository.saveAll(answers);
+
+        return new Town(location, host, events.get(0), meetings.get(0), questions.get(0));
+    }
+
+    private static Arguments endpoint(String name, int budget, Function<Town, String> url) {
+        return Arguments.of(name, budget, url);
+    }
+
+    private static Arguments host(String name, int budget, BiConsumer<ReadEndpointQueryBudgetTest, Town> call) {
+        return Arguments.of(name, budget, call);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    record Town(Location location, User host, Event event, Meeting meeting, Question question) {
+
+        String query() {
+            return "province=" + encode(location.getProvince()) + "&city=" + encode(location.getCity());
+        }
+    }
+}
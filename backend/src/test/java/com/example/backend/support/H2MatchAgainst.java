@@ -0,0 +1,47 @@
+package com.example.backend.support;
+
+import java.util.Locale;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * H2 용 match_against / match_against2 대체 함수
+ * MySQL 구문 검색("...")을 흉내 내 구문이 나온 횟수를 relevance 로 돌려준다 (없으면 0)
+ */
+public final class H2MatchAgainst {
+
+    private H2MatchAgainst() {
+    }
+
+    public static void register(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("create alias if not exists match_against for '"
+                + H2MatchAgainst.class.getName() + ".matchAgainst'");
+        jdbcTemplate.execute("create alias if not exists match_against2 for '"
+                + H2MatchAgainst.class.getName() + ".matchAgainst2'");
+    }
+
+    public static Double matchAgainst(String column, String query) {
+        return (double) occurrences(column, phrase(query));
+    }
+
+    public static Double matchAgainst2(String column1, String column2, String query) {
+        String phrase = phrase(query);
+        return (double) (occurrences(column1, phrase) + occurrences(column2, phrase));
+    }
+
+    private static String phrase(String query) {
+        return query.replace("\"", "").trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static int occurrences(String text, String phrase) {
+        if (text == null || phrase.isEmpty()) {
+            return 0;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int count = 0;
+        for (int from = lower.indexOf(phrase); from >= 0; from = lower.indexOf(phrase, from + phrase.length())) {
+            count++;
+        }
+        return count;
+    }
+}
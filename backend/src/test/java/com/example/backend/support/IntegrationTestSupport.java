@@ -0,0 +1,25 @@
+package com.example.backend.support;
+
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 통합 테스트 공통 설정 (test 프로필 컨텍스트, 테스트마다 TestFixtures.deleteAll 로 정리)
+ * 추가 설정이 필요한 테스트는 하위 클래스에 @AutoConfigureMockMvc, @Import 등을 더 붙인다
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+public abstract class IntegrationTestSupport {
+
+    @Autowired
+    protected TestFixtures fixtures;
+
+    @AfterEach
+    void deleteFixtures() {
+        fixtures.deleteAll();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.backend.support;
+
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 테스트 DataSource 를 datasource-proxy 로 감싸 QueryCounter 에 연결
+ * 쿼리 예산 테스트에서 @Import(QueryCountConfig.class) 로 사용
+ */
+@TestConfiguration
+public class QueryCountConfig {
+
+    // BeanPostProcessor 는 static 으로 먼저 만들어지므로 같은 인스턴스를 빈으로도 노출한다
+    private static final QueryCounter COUNTER = new QueryCounter();
+
+    @Bean
+    public QueryCounter queryCounter() {
+        return COUNTER;
+    }
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // 앱 설정(SqlTelemetryConfig) 이 먼저 감쌌으면 리스너만 추가
+                if (bean instanceof ProxyDataSource proxy) {
+                    proxy.getProxyConfig().getQueryListener().addListener(COUNTER);
+                    return bean;
+                }
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("query-count")
+                            .listener(COUNTER)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.backend.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * datasource-proxy 로 measure(...) 동안 실행된 JDBC 문장 수와 DB 시간을 센다
+ * - execute / executeQuery / executeBatch 호출 1회를 문장 1개로 본다 (batch 는 왕복 1회)
+ * - 대시보드처럼 다른 스레드에서 도는 쿼리도 포함하도록 스레드 구분 없이 센다 (측정은 한 번에 하나만)
+ */
+public class QueryCounter implements QueryExecutionListener {
+
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong elapsedMillis = new AtomicLong();
+    private final ConcurrentLinkedQueue<String> queries = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean active = false;
+
+    public synchronized QueryCount measure(String name, Runnable action) {
+        statements.set(0);
+        elapsedMillis.set(0);
+        queries.clear();
+
+        active = true;
+        long started = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            active = false;
+        }
+
+        return new QueryCount(name, statements.get(), elapsedMillis.get(),
+                (System.nanoTime() - started) / 1_000_000, new ArrayList<>(queries));
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (!active) {
+            return;
+        }
+        statements.incrementAndGet();
+        elapsedMillis.addAndGet(execInfo.getElapsedTime());
+        if (!queryInfoList.isEmpty()) {
+            queries.add(queryInfoList.get(0).getQuery());
+        }
+    }
+
+    /**
+     * 한 번의 측정 결과 (statements: JDBC 문장 수, dbMillis: 문장 실행 시간 합, totalMillis: 호출 전체 시간)
+     */
+    public record QueryCount(String name, int statements, long dbMillis, long totalMillis, List<String> queries) {
+
+        // 실패 메시지용: 실행된 SQL 목록
+        public String describe() {
+            StringBuilder builder = new StringBuilder(name).append(" statements=").append(statements);
+            for (String query : queries) {
+                builder.append("\n  ").append(query);
+            }
+            return builder.toString();
+        }
+    }
+}
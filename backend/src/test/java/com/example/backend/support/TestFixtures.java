@@ -0,0 +1,124 @@
+package com.example.backend.support;
+
+import com.example.backend.domain.Location;
+import com.example.backend.domain.User;
+import com.example.backend.repository.AccountPurgeRepository;
+import com.example.backend.repository.AnswerRepository;
+import com.example.backend.repository.EventJoinRequestRepository;
+import com.example.backend.repository.EventMemberRepository;
+import com.example.backend.repository.EventRepository;
+import com.example.backend.repository.LocationRepository;
+import com.example.backend.repository.MeetingJoinRequestRepository;
+import com.example.backend.repository.MeetingMemberRepository;
+import com.example.backend.repository.MeetingRepository;
+import com.example.backend.repository.QuestionRepository;
+import com.example.backend.repository.RefreshTokenRepository;
+import com.example.backend.repository.UserActivityCounterRepository;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.service.LocationRegistry;
+import com.example.backend.service.PopularMeetingLeaderboard;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 통합 테스트 공용 데이터
+ * - 동네(서울 + 구 이름), 주최자(host@test.com), 일반 사용자(이름@test.com) 생성
+ * - deleteAll: FK 순서대로 전체 테이블 정리 + 메모리 캐시(동네 목록, 인기 모임 순위) 재적재
+ */
+@TestComponent
+public class TestFixtures {
+
+    public static final String PASSWORD = "pw";
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserActivityCounterRepository userActivityCounterRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private AccountPurgeRepository accountPurgeRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventMemberRepository eventMemberRepository;
+
+    @Autowired
+    private EventJoinRequestRepository eventJoinRequestRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingMemberRepository meetingMemberRepository;
+
+    @Autowired
+    private MeetingJoinRequestRepository meetingJoinRequestRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private LocationRegistry locationRegistry;
+
+    @Autowired
+    private PopularMeetingLeaderboard leaderboard;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    public Location location(String city) {
+        return locationRepository.save(Location.builder().province("서울").city(city).build());
+    }
+
+    // 비밀번호 확인이 필요한 흐름(탈퇴 등)에서도 쓸 수 있도록 PASSWORD 를 인코딩해 저장
+    public User host(Location location) {
+        return userRepository.save(new User("host@test.com", passwordEncoder.encode(PASSWORD), "host", location));
+    }
+
+    public User user(String name, Location location) {
+        return userRepository.save(new User(name + "@test.com", PASSWORD, name, location));
+    }
+
+    // prefix0 ~ prefix(count-1), 한 번에 저장
+    public List<User> users(String prefix, int count, Location location) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            users.add(new User(prefix + i + "@test.com", PASSWORD, prefix + i, location));
+        }
+        return userRepository.saveAll(users);
+    }
+
+    public void deleteAll() {
+        answerRepository.deleteAllInBatch();
+        questionRepository.deleteAllInBatch();
+        eventJoinRequestRepository.deleteAllInBatch();
+        eventMemberRepository.deleteAllInBatch();
+        eventRepository.deleteAllInBatch();
+        meetingJoinRequestRepository.deleteAllInBatch();
+        meetingMemberRepository.deleteAllInBatch();
+        meetingRepository.deleteAllInBatch();
+        userActivityCounterRepository.deleteAllInBatch();
+        refreshTokenRepository.deleteAllInBatch();
+        accountPurgeRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        locationRepository.deleteAllInBatch();
+
+        locationRegistry.refresh();
+        leaderboard.rebuild();
+    }
+}